@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.TextBuffer;
+import com.ancevt.d2d2.components.dev.AllocationCounter;
+import com.ancevt.d2d2.components.dev.ChatLine;
+import com.ancevt.d2d2.components.dev.RingBuffer;
+import com.ancevt.d2d2.scene.Color;
+
+/**
+ * Allocation budgets of per-frame hot paths, for CI: exits with status 1 when one of them allocates
+ * more than its budget per run.
+ */
+public class AllocationBudgetCheck {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    public static void main(String[] args) {
+        if (!AllocationCounter.isSupported()) {
+            System.out.println("Thread allocation accounting is not supported, skipping");
+            return;
+        }
+
+        boolean failed = false;
+
+        TextBuffer textBuffer = new TextBuffer(4096);
+        textBuffer.set("lorem ipsum ".repeat(100));
+        failed |= !check("TextBuffer typing", 0, () -> {
+            textBuffer.insert(textBuffer.length() / 2, "a");
+            textBuffer.delete(textBuffer.length() / 2 - 1, textBuffer.length() / 2);
+        });
+
+        RingBuffer<ChatLine> history = new RingBuffer<>(1000);
+        ChatLine chatLine = new ChatLine(0, "line", Color.WHITE);
+        failed |= !check("Console history append", 0, () -> history.add(chatLine));
+
+        if (failed) System.exit(1);
+    }
+
+    private static boolean check(String name, long budgetBytes, Runnable action) {
+        try {
+            long bytes = AllocationCounter.checkBudget(name, budgetBytes, action, WARMUP, ITERATIONS);
+            System.out.println(name + ": " + bytes + " bytes per run");
+            return true;
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.dev.Chat;
+import com.ancevt.d2d2.components.dev.Console;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of chat output on the headless stage: a batch of lines appended through
+ * {@link Chat#addMessage(String)}, {@link Console#println(String)} or
+ * {@link Console#printlnAsync(String)}, followed by a frame step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatAppendBenchmark {
+
+    @Param({"1", "100"})
+    private int linesPerFrame;
+
+    private String[] lines;
+    private Chat chat;
+    private Console console;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        lines = new String[1024];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "line " + i + " lorem ipsum dolor sit amet";
+        }
+
+        chat = new Chat(".d2d2-components-benchmark/chat");
+        chat.setSize(400, 300);
+        Headless.getStage().addChild(chat);
+
+        console = new Console(".d2d2-components-benchmark/console");
+        console.setSize(400, 300);
+        Headless.getStage().addChild(console, 400, 0);
+
+        Headless.step();
+    }
+
+    @TearDown
+    public void tearDown() {
+        console.dispose();
+        Headless.clear();
+    }
+
+    @Benchmark
+    public Chat chatAddMessage() {
+        for (int i = 0; i < linesPerFrame; i++) {
+            chat.addMessage(nextLine());
+        }
+        Headless.step();
+        return chat;
+    }
+
+    @Benchmark
+    public Console consolePrintln() {
+        for (int i = 0; i < linesPerFrame; i++) {
+            console.println(nextLine());
+        }
+        Headless.step();
+        return console;
+    }
+
+    @Benchmark
+    public Console consolePrintlnAsync() {
+        for (int i = 0; i < linesPerFrame; i++) {
+            console.printlnAsync(nextLine());
+        }
+        Headless.step();
+        return console;
+    }
+
+    private String nextLine() {
+        return lines[next++ & (lines.length - 1)];
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.dev.ChatLine;
+import com.ancevt.d2d2.components.dev.ChatMessageCodec;
+import com.ancevt.d2d2.components.dev.OutputHistoryJournal;
+import com.ancevt.d2d2.components.dev.RingBuffer;
+import com.ancevt.d2d2.scene.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Console append throughput: lines going into the in-memory history, encoded by the history codecs
+ * and appended to the history journal, plus reading the journal tail on startup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleHistoryBenchmark {
+
+    @Param({"BINARY", "JSON"})
+    private String codecName;
+
+    private ChatMessageCodec codec;
+    private ChatLine chatLine;
+    private RingBuffer<ChatLine> history;
+    private ByteBuffer buffer;
+    private Path file;
+    private OutputHistoryJournal journal;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        codec = "JSON".equals(codecName) ? ChatMessageCodec.JSON : ChatMessageCodec.BINARY;
+        chatLine = new ChatLine(0, "[12:00:00] player joined the game, position 128.0 256.0", Color.WHITE);
+        history = new RingBuffer<>(1000);
+        buffer = ByteBuffer.allocate(64 * 1024);
+
+        file = Files.createTempFile("d2d2-console-history", ".log");
+        Files.delete(file);
+        journal = new OutputHistoryJournal(file, codec);
+        journal.open();
+        for (int i = 0; i < 10000; i++) {
+            journal.append(new ChatLine(i, chatLine.text(), chatLine.textColor()));
+        }
+        journal.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int appendToHistory() {
+        history.add(new ChatLine(id++, chatLine.text(), chatLine.textColor()));
+        return history.size();
+    }
+
+    @Benchmark
+    public int encode() {
+        if (!codec.encode(chatLine, buffer)) {
+            buffer.clear();
+            codec.encode(chatLine, buffer);
+        }
+        return buffer.position();
+    }
+
+    @Benchmark
+    public void appendToJournal() throws IOException {
+        journal.append(chatLine);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void readTail(Blackhole blackhole) throws IOException {
+        OutputHistoryJournal reader = new OutputHistoryJournal(file, codec);
+        List<ChatLine> lines = reader.readTail(1000);
+        blackhole.consume(lines);
+    }
+}
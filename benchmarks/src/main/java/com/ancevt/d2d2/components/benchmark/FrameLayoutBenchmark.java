@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.Button;
+import com.ancevt.d2d2.components.Component;
+import com.ancevt.d2d2.components.Frame;
+import com.ancevt.d2d2.components.Panel;
+import com.ancevt.d2d2.components.headless.Headless;
+import com.ancevt.d2d2.components.layout.HBoxLayout;
+import com.ancevt.d2d2.components.layout.VBoxLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relayout of a frame holding nested panels with alternating VBox and HBox layouts, after
+ * resizing the frame and after resizing one leaf at the bottom of the tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameLayoutBenchmark {
+
+    private static final int CHILDREN_PER_PANEL = 3;
+
+    @Param({"2", "4"})
+    private int depth;
+
+    private Frame frame;
+    private Component root;
+    private Button leaf;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        frame = new Frame();
+        root = createPanel(depth, false);
+        frame.addChild(root, 0, frame.getTitleHeight());
+        setFrameSize(600, 400);
+
+        Headless.getStage().addChild(frame);
+        Headless.step();
+    }
+
+    private Component createPanel(int level, boolean horizontal) {
+        Panel panel = new Panel();
+        panel.setLayoutManager(horizontal ? new HBoxLayout(4, true) : new VBoxLayout(4, true));
+        for (int i = 0; i < CHILDREN_PER_PANEL; i++) {
+            if (level > 1) {
+                panel.addChild(createPanel(level - 1, !horizontal));
+            } else {
+                Button button = new Button("Button " + i);
+                if (leaf == null) leaf = button;
+                panel.addChild(button);
+            }
+        }
+        return panel;
+    }
+
+    private void setFrameSize(float width, float height) {
+        frame.setSize(width, height);
+        root.setSize(width, height - frame.getTitleHeight());
+    }
+
+    @TearDown
+    public void tearDown() {
+        Headless.clear();
+    }
+
+    @Benchmark
+    public Frame resizeFrame() {
+        toggle = !toggle;
+        setFrameSize(toggle ? 640 : 600, toggle ? 420 : 400);
+        Headless.step();
+        return frame;
+    }
+
+    @Benchmark
+    public Frame resizeLeaf() {
+        toggle = !toggle;
+        leaf.setWidth(toggle ? 120 : 80);
+        Headless.step();
+        return frame;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.ComponentFont;
+import com.ancevt.d2d2.components.dev.SceneStats;
+import com.ancevt.d2d2.components.effect.Glow8Shadows;
+import com.ancevt.d2d2.components.headless.Headless;
+import com.ancevt.d2d2.scene.BasicGroup;
+import com.ancevt.d2d2.scene.Color;
+import com.ancevt.d2d2.scene.text.BitmapText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glowing labels in {@link Glow8Shadows.Mode#FULL} and {@link Glow8Shadows.Mode#DIAGONAL} mode:
+ * creating a glow, an idle frame with many glows on the stage and a frame in which every label
+ * changes its text. The node count of the scene is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Glow8ShadowsBenchmark {
+
+    private static final int LABEL_COUNT = 50;
+
+    @Param({"FULL", "DIAGONAL"})
+    private Glow8Shadows.Mode mode;
+
+    private BasicGroup scene;
+    private Glow8Shadows[] glows;
+    private BitmapText source;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        source = createText("Label");
+
+        scene = new BasicGroup();
+        glows = new Glow8Shadows[LABEL_COUNT];
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            BitmapText text = createText("Label " + i);
+            glows[i] = createGlow(text);
+            scene.addChild(glows[i], 10, 10 + i * 20);
+            scene.addChild(text, 10, 10 + i * 20);
+        }
+        Headless.getStage().addChild(scene);
+        Headless.step();
+
+        System.out.println(mode + ": " + SceneStats.getSceneStats(scene).replace('\n', ' '));
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Glow8Shadows glow : glows) {
+            glow.dispose();
+        }
+        Headless.clear();
+    }
+
+    @Benchmark
+    public Glow8Shadows create() {
+        Glow8Shadows glow = createGlow(source);
+        glow.dispose();
+        return glow;
+    }
+
+    @Benchmark
+    public void idleFrame() {
+        Headless.step();
+    }
+
+    @Benchmark
+    public void textChangeFrame() {
+        String text = (counter++ & 1) == 0 ? "Label A" : "Label B";
+        for (Glow8Shadows glow : glows) {
+            glow.setText(text);
+        }
+        Headless.step();
+    }
+
+    private Glow8Shadows createGlow(BitmapText text) {
+        return new Glow8Shadows(text, Color.BLACK, 0.80f, 1f, 0, 0, mode);
+    }
+
+    private static BitmapText createText(String string) {
+        BitmapText text = new BitmapText();
+        text.setBitmapFont(ComponentFont.getFontMiddle());
+        text.setText(string);
+        return text;
+    }
+}
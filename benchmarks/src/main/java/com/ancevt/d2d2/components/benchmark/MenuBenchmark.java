@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.headless.Headless;
+import com.ancevt.d2d2.components.menu.Menu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opening a context menu and rendering the frame it appears in, then closing it again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuBenchmark {
+
+    @Param({"10", "50"})
+    private int itemCount;
+
+    private Menu menu;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        Menu childMenu = Menu.createMenu();
+        for (int i = 0; i < 10; i++) {
+            childMenu.addItem("Child item " + i, () -> {
+            });
+        }
+
+        menu = Menu.createMenu();
+        menu.addItem("Submenu", childMenu);
+        menu.addSeparator();
+        for (int i = 0; i < itemCount; i++) {
+            menu.addItem("Item " + i, () -> {
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Headless.clear();
+    }
+
+    @Benchmark
+    public Menu openAndClose() {
+        menu.activate();
+        Headless.step();
+        menu.removeFromParent();
+        return menu;
+    }
+}
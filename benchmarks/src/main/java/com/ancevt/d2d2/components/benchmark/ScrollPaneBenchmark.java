@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.Button;
+import com.ancevt.d2d2.components.Component;
+import com.ancevt.d2d2.components.ScrollPane;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of wheel scrolling: a scroll step on a scroll pane on the stage followed by a frame.
+ * The pane is either virtualized through an item model or holds one component per item.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollPaneBenchmark {
+
+    @Param({"1000", "100000"})
+    private int itemCount;
+
+    @Param({"true", "false"})
+    private boolean virtualized;
+
+    private ScrollPane scrollPane;
+    private int direction = ScrollPane.DEFAULT_SCROLL_STEP;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        String[] texts = new String[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            texts[i] = "Item " + i;
+        }
+
+        scrollPane = new ScrollPane();
+        if (virtualized) {
+            scrollPane.setItemModel(new ScrollPane.ItemModel() {
+                @Override
+                public int getItemCount() {
+                    return itemCount;
+                }
+
+                @Override
+                public Component createRow() {
+                    return new Button();
+                }
+
+                @Override
+                public void bindRow(Component row, int index) {
+                    ((Button) row).setText(texts[index]);
+                }
+            });
+        } else {
+            for (String text : texts) {
+                scrollPane.addScrollableItem(new Button(text));
+            }
+        }
+        scrollPane.setScrollPosition(0);
+
+        Headless.getStage().addChild(scrollPane);
+        Headless.step();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Headless.clear();
+    }
+
+    @Benchmark
+    public int scrollFrame() {
+        int position = scrollPane.getScrollPosition();
+        if (position + direction < 0 || position + direction > itemCount - 100) {
+            direction = -direction;
+        }
+        scrollPane.scroll(direction);
+        Headless.step();
+        return scrollPane.getScrollPosition();
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.TextBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Editing patterns of {@code TextInput}: typing at a caret in the middle of the text, deleting words
+ * backwards and reading the text back after every edit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBufferBenchmark {
+
+    @Param({"64", "4096"})
+    private int length;
+
+    private String initialText;
+    private TextBuffer textBuffer;
+
+    @Setup
+    public void setup() {
+        initialText = "lorem ipsum ".repeat(length / 12 + 1).substring(0, length);
+        textBuffer = new TextBuffer();
+    }
+
+    @Benchmark
+    public String typeInMiddle() {
+        textBuffer.set(initialText);
+        int caret = length / 2;
+        for (int i = 0; i < 100; i++) {
+            textBuffer.insert(caret++, "a");
+        }
+        return textBuffer.toString();
+    }
+
+    @Benchmark
+    public String typeAndReadEachChar() {
+        textBuffer.set(initialText);
+        int caret = length / 2;
+        String text = null;
+        for (int i = 0; i < 100; i++) {
+            textBuffer.insert(caret++, "a");
+            text = textBuffer.toString();
+        }
+        return text;
+    }
+
+    @Benchmark
+    public int deleteWordsBackwards() {
+        textBuffer.set(initialText);
+        int caret = textBuffer.length();
+        while (caret > 0) {
+            int from = Math.max(0, caret - 6);
+            textBuffer.delete(from, caret);
+            caret = from;
+        }
+        return textBuffer.length();
+    }
+}
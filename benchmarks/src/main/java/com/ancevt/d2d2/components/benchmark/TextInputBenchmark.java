@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.TextInput;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typing into a real {@link TextInput} on the headless stage: characters inserted at a caret in
+ * the middle of the text through {@link TextInput#insertText(String)}, one frame per character.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextInputBenchmark {
+
+    private static final int TYPED_CHARS = 20;
+
+    @Param({"16", "64"})
+    private int length;
+
+    private String initialText;
+    private TextInput textInput;
+
+    @Setup
+    public void setup() {
+        Headless.init();
+
+        initialText = "lorem ipsum ".repeat(length / 12 + 1).substring(0, length);
+
+        textInput = new TextInput();
+        textInput.setWidth((length + TYPED_CHARS) * 8 + 20);
+        Headless.getStage().addChild(textInput);
+        textInput.focus();
+        Headless.step();
+    }
+
+    @TearDown
+    public void tearDown() {
+        textInput.dispose();
+        Headless.clear();
+    }
+
+    @Benchmark
+    public String typeInMiddle() {
+        textInput.setText(initialText);
+        textInput.setCaretPosition(length / 2);
+        for (int i = 0; i < TYPED_CHARS; i++) {
+            textInput.insertText("a");
+            Headless.step();
+        }
+        return textInput.getText();
+    }
+}
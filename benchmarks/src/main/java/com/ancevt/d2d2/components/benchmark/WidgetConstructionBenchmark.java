@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.benchmark;
+
+import com.ancevt.d2d2.components.Button;
+import com.ancevt.d2d2.components.ButtonEx;
+import com.ancevt.d2d2.components.Checkbox;
+import com.ancevt.d2d2.components.Component;
+import com.ancevt.d2d2.components.Frame;
+import com.ancevt.d2d2.components.ScrollPane;
+import com.ancevt.d2d2.components.TextInput;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating widgets on the headless engine, including their sprites and text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WidgetConstructionBenchmark {
+
+    @Setup
+    public void setup() {
+        Headless.init();
+    }
+
+    @Benchmark
+    public Component button() {
+        return new Button("Button");
+    }
+
+    @Benchmark
+    public Component buttonEx() {
+        ButtonEx buttonEx = new ButtonEx();
+        buttonEx.setText("Button");
+        return buttonEx;
+    }
+
+    @Benchmark
+    public Component checkbox() {
+        return new Checkbox("Checkbox");
+    }
+
+    @Benchmark
+    public Component textInput() {
+        TextInput textInput = new TextInput();
+        textInput.setText("text input");
+        return textInput;
+    }
+
+    @Benchmark
+    public Component scrollPane() {
+        return new ScrollPane();
+    }
+
+    @Benchmark
+    public Component frameWithContent() {
+        Frame frame = new Frame();
+        frame.setSize(400, 300);
+        frame.addChild(new Button("OK"), 10, 40);
+        frame.addChild(new Checkbox("Checkbox"), 10, 80);
+        frame.addChild(new TextInput(), 10, 120);
+        return frame;
+    }
+}
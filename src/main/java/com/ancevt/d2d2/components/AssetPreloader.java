@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.StageEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the component atlas and fonts ahead of first use, one asset per stage tick, so that no
+ * single frame pays for all of them. The engine only accepts assets by path, so decoding stays on
+ * the render thread; resources missing from the classpath are reported up front.
+ */
+@Slf4j
+class AssetPreloader {
+
+    private static final String ASSETS_DIR = "assets/";
+
+    private final Deque<Step> steps = new ArrayDeque<>();
+    private final Map<String, Long> loadNanos = new LinkedHashMap<>();
+    private final List<String> missing = new ArrayList<>();
+    private final CompletableFuture<PreloadReport> future = new CompletableFuture<>();
+    private final long startTime;
+    private int frames;
+
+    AssetPreloader() {
+        startTime = System.nanoTime();
+
+        check(ASSETS_DIR + ComponentAssets.TEXTURE_DATA_INFO);
+        check(ASSETS_DIR + ComponentAssets.TEXTURE_ATLAS);
+        ComponentFont.getResourcePaths().forEach(this::check);
+
+        steps.add(new Step("atlas", () -> {
+            if (!ComponentAssets.isInitialized()) ComponentAssets.init();
+        }));
+        steps.add(new Step("font-middle", ComponentFont::getFontMiddle));
+        steps.add(new Step("font-small", ComponentFont::getFontSmall));
+        steps.add(new Step("font-middle-glow", ComponentFont::getFontMiddleGlow));
+
+        D2D2.getStage().addEventListener(AssetPreloader.class, StageEvent.Tick.class, e -> tick());
+    }
+
+    CompletableFuture<PreloadReport> getFuture() {
+        return future;
+    }
+
+    private void check(String resource) {
+        if (AssetPreloader.class.getClassLoader().getResource(resource) == null) {
+            log.warn("Preload: resource not found on classpath: {}", resource);
+            missing.add(resource);
+        }
+    }
+
+    private void tick() {
+        Step step = steps.poll();
+        frames++;
+
+        try {
+            long time = System.nanoTime();
+            step.loader.run();
+            loadNanos.put(step.name, System.nanoTime() - time);
+        } catch (RuntimeException e) {
+            D2D2.getStage().removeEventListener(AssetPreloader.class, StageEvent.Tick.class);
+            future.completeExceptionally(e);
+            return;
+        }
+
+        if (steps.isEmpty()) {
+            D2D2.getStage().removeEventListener(AssetPreloader.class, StageEvent.Tick.class);
+
+            PreloadReport report = new PreloadReport(
+                    Collections.unmodifiableMap(loadNanos),
+                    Collections.unmodifiableList(missing),
+                    frames,
+                    System.nanoTime() - startTime
+            );
+            log.info("Components preloaded in {} ms over {} frames",
+                    TimeUnit.NANOSECONDS.toMillis(report.totalNanos()), frames);
+            future.complete(report);
+        }
+    }
+
+    private record Step(String name, Runnable loader) {
+    }
+}
@@ -27,6 +27,8 @@ import com.ancevt.d2d2.scene.Sprite;
 import com.ancevt.d2d2.scene.text.BitmapText;
 import lombok.Getter;
 
+import java.util.Set;
+
 import static com.ancevt.d2d2.components.ComponentAssets.*;
 
 public class Button extends Component {
@@ -68,14 +70,14 @@ public class Button extends Component {
         });
 
         addEventListener(Button.class, InputEvent.MouseHover.class, event -> {
-            Color color = HOVER_FOREGROUND_COLOR;
+            Color color = resolve(ThemeToken.HOVER_FOREGROUND_COLOR);
             leftPart.setColor(color);
             rightPart.setColor(color);
             middlePart.setColor(color);
         });
 
         addEventListener(Button.class, InputEvent.MouseOut.class, event -> {
-            Color color = FOREGROUND_COLOR;
+            Color color = resolve(ThemeToken.FOREGROUND_COLOR);
             leftPart.setColor(color);
             rightPart.setColor(color);
             middlePart.setColor(color);
@@ -103,13 +105,21 @@ public class Button extends Component {
     }
 
     private void setCorrespondingColors() {
-        bitmapText.setColor(isInteractionEnabled() ? TEXT_COLOR : TEXT_COLOR_DISABLED);
-        Color color = isInteractionEnabled() ? FOREGROUND_COLOR : FOREGROUND_COLOR_DISABLED;
+        bitmapText.setColor(resolve(isInteractionEnabled() ? ThemeToken.TEXT_COLOR : ThemeToken.TEXT_COLOR_DISABLED));
+        Color color = resolve(isInteractionEnabled() ? ThemeToken.FOREGROUND_COLOR : ThemeToken.FOREGROUND_COLOR_DISABLED);
         leftPart.setColor(color);
         rightPart.setColor(color);
         middlePart.setColor(color);
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.TEXT_COLOR, changed) || isThemeChanged(ThemeToken.TEXT_COLOR_DISABLED, changed)
+                || isThemeChanged(ThemeToken.FOREGROUND_COLOR, changed) || isThemeChanged(ThemeToken.FOREGROUND_COLOR_DISABLED, changed)) {
+            setCorrespondingColors();
+        }
+    }
+
     public void setText(String text) {
         this.bitmapText.setText(text);
         fixTextXY();
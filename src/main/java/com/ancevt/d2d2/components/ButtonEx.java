@@ -18,7 +18,6 @@
 
 package com.ancevt.d2d2.components;
 
-import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.event.CommonEvent;
 import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.scene.Color;
@@ -28,20 +27,23 @@ import com.ancevt.d2d2.scene.interactive.Combined9Sprites;
 import com.ancevt.d2d2.scene.text.BitmapText;
 import com.ancevt.d2d2.scene.texture.TextureRegion;
 
+import java.util.Set;
+
 public class ButtonEx extends Component implements Colored {
 
     private static final float DEFAULT_WIDTH = 30.0f;
     private static final float DEFAULT_HEIGHT = 30.0f;
 
     private final Combined9Sprites bg;
-    private final Combined9Sprites selectedBorder;
+    private Combined9Sprites selectedBorder;
+    private String[] selectedBorderTextureKeys;
 
-    private Color colorTogglePushedInBorder = Color.of(0x8080FF);
-    private Color colorHoverBackground = Color.of(0xBBBBBB);
-    private Color colorBackground = Color.GRAY;
-    private Color colorBackgroundDisabled = Color.DARK_GRAY;
-    private Color colorText = Color.WHITE;
-    private Color colorTextDisabled = Color.GRAY;
+    private Color colorTogglePushedInBorder = resolve(ThemeToken.BUTTON_TOGGLE_BORDER_COLOR);
+    private Color colorHoverBackground = resolve(ThemeToken.BUTTON_HOVER_BACKGROUND_COLOR);
+    private Color colorBackground = resolve(ThemeToken.BUTTON_BACKGROUND_COLOR);
+    private Color colorBackgroundDisabled = resolve(ThemeToken.BUTTON_BACKGROUND_COLOR_DISABLED);
+    private Color colorText = resolve(ThemeToken.TEXT_COLOR);
+    private Color colorTextDisabled = resolve(ThemeToken.TEXT_COLOR_DISABLED);
 
     private Sprite iconSprite;
     private BitmapText bitmapText;
@@ -51,38 +53,11 @@ public class ButtonEx extends Component implements Colored {
     public ButtonEx() {
         setPushEventsUp(false);
 
-        bg = new Combined9Sprites(
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_TOP_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_TOP),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_TOP_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_CENTER),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_BOTTOM_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_BOTTOM),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BUTTON_9_SIDE_BOTTOM_RIGHT)
-        );
+        bg = ComponentAssets.getButtonStyle().createSprites();
 
         bg.setInteractionEnabled(false);
         addChild(bg);
 
-        selectedBorder = new Combined9Sprites(
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_TOP_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_TOP),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_TOP_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_CENTER),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_BOTTOM_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_BOTTOM),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.BORDER_9_SIDE_BOTTOM_RIGHT)
-        );
-
-        selectedBorder.setInteractionEnabled(false);
-        selectedBorder.setVisible(false);
-        selectedBorder.setColor(colorTogglePushedInBorder);
-        addChild(selectedBorder);
-
         addEventListener(Button.class, InputEvent.MouseDown.class, event -> {
             if (toggleMode) {
                 setSelected(!isSelected());
@@ -119,12 +94,31 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setSelectedBorderTextures(String[] textureKeys) {
-        selectedBorder.setTextures(textureKeys);
+        selectedBorderTextureKeys = textureKeys;
+        if (selectedBorder != null) selectedBorder.setTextures(textureKeys);
+    }
+
+    /**
+     * The selection border is only needed by toggle buttons that were selected at least once,
+     * so it is created on first use rather than adding nine hidden sprites to every button.
+     */
+    private Combined9Sprites getSelectedBorder() {
+        if (selectedBorder == null) {
+            selectedBorder = ComponentAssets.getBorderStyle().createSprites();
+
+            selectedBorder.setInteractionEnabled(false);
+            selectedBorder.setVisible(false);
+            selectedBorder.setColor(colorTogglePushedInBorder);
+            selectedBorder.setSize(getWidth(), getHeight());
+            if (selectedBorderTextureKeys != null) selectedBorder.setTextures(selectedBorderTextureKeys);
+            addChild(selectedBorder);
+        }
+        return selectedBorder;
     }
 
     private void this_resize(CommonEvent.Resize e) {
         bg.setSize(getWidth(), getHeight());
-        selectedBorder.setSize(getWidth(), getHeight());
+        if (selectedBorder != null) selectedBorder.setSize(getWidth(), getHeight());
     }
 
     public Color getColorTogglePushedInBorder() {
@@ -132,9 +126,14 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorTogglePushedInBorder(Color colorTogglePushedInBorder) {
+        markCustomized(ThemeToken.BUTTON_TOGGLE_BORDER_COLOR);
+        applyColorTogglePushedInBorder(colorTogglePushedInBorder);
+    }
+
+    private void applyColorTogglePushedInBorder(Color colorTogglePushedInBorder) {
         this.colorTogglePushedInBorder = colorTogglePushedInBorder;
 
-        if (isSelected()) {
+        if (selectedBorder != null) {
             selectedBorder.setColor(colorTogglePushedInBorder);
         }
     }
@@ -144,6 +143,11 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorHoverBackground(Color colorHoverBackground) {
+        markCustomized(ThemeToken.BUTTON_HOVER_BACKGROUND_COLOR);
+        applyColorHoverBackground(colorHoverBackground);
+    }
+
+    private void applyColorHoverBackground(Color colorHoverBackground) {
         this.colorHoverBackground = colorHoverBackground;
     }
 
@@ -152,6 +156,11 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorBackground(Color colorBackground) {
+        markCustomized(ThemeToken.BUTTON_BACKGROUND_COLOR);
+        applyColorBackground(colorBackground);
+    }
+
+    private void applyColorBackground(Color colorBackground) {
         this.colorBackground = colorBackground;
         if (isInteractionEnabled()) bg.setColor(colorBackground);
     }
@@ -161,6 +170,11 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorBackgroundDisabled(Color colorBackgroundDisabled) {
+        markCustomized(ThemeToken.BUTTON_BACKGROUND_COLOR_DISABLED);
+        applyColorBackgroundDisabled(colorBackgroundDisabled);
+    }
+
+    private void applyColorBackgroundDisabled(Color colorBackgroundDisabled) {
         this.colorBackgroundDisabled = colorBackgroundDisabled;
         if (!isInteractionEnabled()) bg.setColor(colorBackgroundDisabled);
     }
@@ -170,6 +184,11 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorText(Color colorText) {
+        markCustomized(ThemeToken.TEXT_COLOR);
+        applyColorText(colorText);
+    }
+
+    private void applyColorText(Color colorText) {
         this.colorText = colorText;
         if (isInteractionEnabled() && bitmapText != null) bitmapText.setColor(colorText);
     }
@@ -179,6 +198,11 @@ public class ButtonEx extends Component implements Colored {
     }
 
     public void setColorTextDisabled(Color colorTextDisabled) {
+        markCustomized(ThemeToken.TEXT_COLOR_DISABLED);
+        applyColorTextDisabled(colorTextDisabled);
+    }
+
+    private void applyColorTextDisabled(Color colorTextDisabled) {
         this.colorTextDisabled = colorTextDisabled;
         if (!isInteractionEnabled() && bitmapText != null) bitmapText.setColor(colorTextDisabled);
     }
@@ -194,7 +218,11 @@ public class ButtonEx extends Component implements Colored {
 
     public void setSelected(boolean selected) {
         this.selected = selected;
-        selectedBorder.setVisible(selected);
+        if (selected) {
+            getSelectedBorder().setVisible(true);
+        } else if (selectedBorder != null) {
+            selectedBorder.setVisible(false);
+        }
         dispatchEvent(CommonEvent.Change.create());
     }
 
@@ -265,6 +293,16 @@ public class ButtonEx extends Component implements Colored {
         return bg.getColor();
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BUTTON_TOGGLE_BORDER_COLOR, changed)) applyColorTogglePushedInBorder(resolve(ThemeToken.BUTTON_TOGGLE_BORDER_COLOR));
+        if (isThemeChanged(ThemeToken.BUTTON_HOVER_BACKGROUND_COLOR, changed)) applyColorHoverBackground(resolve(ThemeToken.BUTTON_HOVER_BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.BUTTON_BACKGROUND_COLOR, changed)) applyColorBackground(resolve(ThemeToken.BUTTON_BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.BUTTON_BACKGROUND_COLOR_DISABLED, changed)) applyColorBackgroundDisabled(resolve(ThemeToken.BUTTON_BACKGROUND_COLOR_DISABLED));
+        if (isThemeChanged(ThemeToken.TEXT_COLOR, changed)) applyColorText(resolve(ThemeToken.TEXT_COLOR));
+        if (isThemeChanged(ThemeToken.TEXT_COLOR_DISABLED, changed)) applyColorTextDisabled(resolve(ThemeToken.TEXT_COLOR_DISABLED));
+    }
+
     @Override
     public void update() {
         if (iconSprite != null && bitmapText != null) {
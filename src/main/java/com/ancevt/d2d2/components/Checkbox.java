@@ -22,6 +22,8 @@ import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.scene.Sprite;
 import com.ancevt.d2d2.scene.text.BitmapText;
 
+import java.util.Set;
+
 import static com.ancevt.d2d2.components.ComponentAssets.CHECKBOX_UNCHECKED;
 
 public class Checkbox extends Component {
@@ -121,11 +123,24 @@ public class Checkbox extends Component {
     public void setInteractionEnabled(boolean enabled) {
         if (enabled == isInteractionEnabled()) return;
         super.setInteractionEnabled(enabled);
+        setCorrespondingColors();
+    }
+
+    private void setCorrespondingColors() {
+        boolean enabled = isInteractionEnabled();
         if (label != null) {
-            label.setColor(enabled ? TEXT_COLOR : TEXT_COLOR_DISABLED);
+            label.setColor(resolve(enabled ? ThemeToken.TEXT_COLOR : ThemeToken.TEXT_COLOR_DISABLED));
         }
 
-        sprite.setColor(enabled ? FOREGROUND_COLOR : FOREGROUND_COLOR_DISABLED);
+        sprite.setColor(resolve(enabled ? ThemeToken.FOREGROUND_COLOR : ThemeToken.FOREGROUND_COLOR_DISABLED));
+    }
+
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.TEXT_COLOR, changed) || isThemeChanged(ThemeToken.TEXT_COLOR_DISABLED, changed)
+                || isThemeChanged(ThemeToken.FOREGROUND_COLOR, changed) || isThemeChanged(ThemeToken.FOREGROUND_COLOR_DISABLED, changed)) {
+            setCorrespondingColors();
+        }
     }
 
     @Override
@@ -18,6 +18,8 @@
 
 package com.ancevt.d2d2.components;
 
+import com.ancevt.d2d2.components.layout.LayoutManager;
+import com.ancevt.d2d2.components.layout.Size;
 import com.ancevt.d2d2.event.CommonEvent;
 import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.event.NodeEvent;
@@ -30,6 +32,8 @@ import com.ancevt.d2d2.scene.shape.BorderedRectangleShape;
 import com.ancevt.d2d2.time.Timer;
 import lombok.Getter;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.ancevt.d2d2.D2D2.getStage;
@@ -69,6 +73,26 @@ abstract public class Component extends InteractiveGroup {
     private float maxWidth;
     private float maxHeight;
 
+    private boolean layoutInvalid;
+
+    @Getter
+    private LayoutManager layoutManager;
+    private float preferredWidth;
+    private float preferredHeight;
+    private boolean measureValid;
+    private float measuredWidth;
+    private float measuredHeight;
+    private float naturalWidth = Float.NaN;
+    private float naturalHeight = Float.NaN;
+    private boolean layoutSizing;
+    private Component layoutParent;
+
+    boolean frameIndexed;
+    int layoutDepth;
+
+    private int themeVersion;
+    private Set<ThemeToken<?>> customizedTokens;
+
     protected Component() {
         if (!ComponentAssets.isInitialized()) {
             ComponentAssets.init();
@@ -86,6 +110,22 @@ abstract public class Component extends InteractiveGroup {
         addEventListener(Component.class, InputEvent.FocusOut.class, this::this_focusOut);
 
         padding = new Padding(DEFAULT_PADDING_LEFT, DEFAULT_PADDING_TOP, DEFAULT_PADDING_RIGHT, DEFAULT_PADDING_BOTTOM);
+        padding.setComponent(this);
+
+        addEventListener(LayoutManager.class, NodeEvent.Add.class, e -> {
+            layoutParent = getParent() instanceof Component parent ? parent : null;
+            if (layoutParent != null) layoutParent.layoutChildrenChanged();
+        });
+        addEventListener(LayoutManager.class, NodeEvent.Remove.class, e -> {
+            Component parent = layoutParent;
+            layoutParent = null;
+            if (parent != null) parent.layoutChildrenChanged();
+        });
+
+        themeVersion = Theme.getVersion();
+        addEventListener(Theme.class, NodeEvent.AddToScene.class, e -> {
+            if (themeVersion != Theme.getVersion()) applyThemeChange(Set.copyOf(ThemeToken.values()));
+        });
 
         setTabbingEnabled(false);
     }
@@ -155,7 +195,12 @@ abstract public class Component extends InteractiveGroup {
     public void setPadding(Padding padding) {
         padding.setComponent(this);
         this.padding = padding;
-        update();
+        paddingChanged();
+    }
+
+    void paddingChanged() {
+        invalidateLayout();
+        invalidateMeasure();
     }
 
     public void setComponentFocusRectVisibleEnabled(boolean focusRectEnabled) {
@@ -173,6 +218,176 @@ abstract public class Component extends InteractiveGroup {
 
     }
 
+    /**
+     * Marks the layout of this component as stale. The {@link CommonEvent.Resize} event and
+     * {@link #update()} then run once, in the next layout pass of {@link LayoutQueue}, however
+     * many times the component was invalidated before it.
+     */
+    public void invalidateLayout() {
+        if (LayoutQueue.getInstance().isImmediate()) {
+            layoutInvalid = true;
+            validateLayout();
+            return;
+        }
+
+        if (layoutInvalid) return;
+        layoutInvalid = true;
+        LayoutQueue.getInstance().add(this);
+    }
+
+    /**
+     * Lays the component out now if its layout is stale.
+     */
+    public void validateLayout() {
+        if (!layoutInvalid) return;
+        layoutInvalid = false;
+        if (isDisposed()) return;
+
+        long time = ComponentProfiler.start();
+
+        dispatchEvent(CommonEvent.Resize.create(getWidth(), getHeight()));
+        update();
+
+        if (layoutManager != null) {
+            layoutManager.layout(this);
+        }
+
+        ComponentProfiler.stop(this, ComponentProfiler.Section.LAYOUT, time);
+    }
+
+    public boolean isLayoutInvalid() {
+        return layoutInvalid;
+    }
+
+    protected static <T> T resolve(ThemeToken<T> token) {
+        return Theme.getCurrent().get(token);
+    }
+
+    /**
+     * Marks a token as overridden by the component's own setter, so theme changes leave it alone.
+     */
+    protected void markCustomized(ThemeToken<?> token) {
+        if (customizedTokens == null) customizedTokens = new HashSet<>();
+        customizedTokens.add(token);
+    }
+
+    /**
+     * @return whether the token changed in the last theme switch and is not overridden
+     */
+    protected boolean isThemeChanged(ThemeToken<?> token, Set<ThemeToken<?>> changed) {
+        return changed.contains(token) && (customizedTokens == null || !customizedTokens.contains(token));
+    }
+
+    void applyThemeChange(Set<ThemeToken<?>> changed) {
+        if (themeVersion == Theme.getVersion()) return;
+        themeVersion = Theme.getVersion();
+        themeChanged(changed);
+    }
+
+    /**
+     * Called once per theme switch with the tokens whose values changed. Subclasses reapply the
+     * ones they use, checking them with {@link #isThemeChanged(ThemeToken, Set)}.
+     */
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+
+    }
+
+    public void setLayoutManager(LayoutManager layoutManager) {
+        this.layoutManager = layoutManager;
+        invalidateLayout();
+        invalidateMeasure();
+    }
+
+    /**
+     * Overrides the preferred size; zero in a dimension means it is measured by the layout manager,
+     * or is the current size when there is none.
+     */
+    public void setPreferredSize(float width, float height) {
+        preferredWidth = width;
+        preferredHeight = height;
+        invalidateMeasure();
+    }
+
+    public float getPreferredWidth() {
+        measure();
+        return measuredWidth;
+    }
+
+    public float getPreferredHeight() {
+        measure();
+        return measuredHeight;
+    }
+
+    /**
+     * Drops the cached preferred size of this component and of the layout-managed containers
+     * above it, and schedules their layout. Adding or removing child components and resizing them
+     * outside of layout call this; other content changes that affect the preferred size must call
+     * it themselves.
+     */
+    public void invalidateMeasure() {
+        Component component = this;
+        while (component != null) {
+            component.measureValid = false;
+            if (component.layoutManager != null) component.invalidateLayout();
+
+            component = component.getParent() instanceof Component parent && parent.layoutManager != null
+                    ? parent
+                    : null;
+        }
+    }
+
+    /**
+     * Resizes the component on behalf of a layout manager. Unlike {@link #setSize(float, float)}
+     * this does not change the size the component reports as preferred, so a container that
+     * stretched its children can shrink again.
+     */
+    public void setLayoutSize(float width, float height) {
+        layoutSizing = true;
+        try {
+            setSize(width, height);
+        } finally {
+            layoutSizing = false;
+        }
+    }
+
+    private void layoutChildrenChanged() {
+        if (layoutManager != null) invalidateMeasure();
+    }
+
+    private void setNaturalSize(float width, float height) {
+        if (layoutSizing || (width == naturalWidth && height == naturalHeight)) return;
+        naturalWidth = width;
+        naturalHeight = height;
+        if (layoutParent != null && layoutParent.layoutManager != null) invalidateMeasure();
+    }
+
+    private void measure() {
+        if (layoutManager == null) {
+            measuredWidth = clampWidth(preferredWidth != 0.0f ? preferredWidth : Float.isNaN(naturalWidth) ? getWidth() : naturalWidth);
+            measuredHeight = clampHeight(preferredHeight != 0.0f ? preferredHeight : Float.isNaN(naturalHeight) ? getHeight() : naturalHeight);
+            return;
+        }
+
+        if (measureValid) return;
+
+        Size size = layoutManager.measure(this);
+        measuredWidth = clampWidth(preferredWidth != 0.0f ? preferredWidth : size.width());
+        measuredHeight = clampHeight(preferredHeight != 0.0f ? preferredHeight : size.height());
+        measureValid = true;
+    }
+
+    private float clampWidth(float width) {
+        if (maxWidth != 0.0f && width > maxWidth) width = maxWidth;
+        if (minWidth != 0.0f && width < minWidth) width = minWidth;
+        return width;
+    }
+
+    private float clampHeight(float height) {
+        if (maxHeight != 0.0f && height > maxHeight) height = maxHeight;
+        if (minHeight != 0.0f && height < minHeight) height = minHeight;
+        return height;
+    }
+
     @Override
     public void setSize(float width, float height) {
         if (maxWidth != 0.0f && width > maxWidth) width = maxWidth;
@@ -181,9 +396,10 @@ abstract public class Component extends InteractiveGroup {
         if (minHeight != 0.0f && height < minHeight) height = minHeight;
 
         super.setSize(width, height);
-        dispatchEvent(CommonEvent.Resize.create(width, height));
         componentFocusRect.setSize(width, height);
-        update();
+        setNaturalSize(width, height);
+        invalidateLayout();
+        boundsChanged();
     }
 
     @Override
@@ -192,9 +408,10 @@ abstract public class Component extends InteractiveGroup {
         if (minWidth != 0.0f && width < minWidth) width = minWidth;
 
         super.setWidth(width);
-        dispatchEvent(CommonEvent.Resize.create(width, getHeight()));
         componentFocusRect.setWidth(width);
-        update();
+        setNaturalSize(width, Float.isNaN(naturalHeight) ? getHeight() : naturalHeight);
+        invalidateLayout();
+        boundsChanged();
     }
 
     @Override
@@ -203,13 +420,57 @@ abstract public class Component extends InteractiveGroup {
         if (minHeight != 0.0f && height < minHeight) height = minHeight;
 
         super.setHeight(height);
-        dispatchEvent(CommonEvent.Resize.create(getWidth(), height));
         componentFocusRect.setHeight(height);
-        update();
+        setNaturalSize(Float.isNaN(naturalWidth) ? getWidth() : naturalWidth, height);
+        invalidateLayout();
+        boundsChanged();
+    }
+
+    @Override
+    public void setX(float value) {
+        super.setX(value);
+        boundsChanged();
+    }
+
+    @Override
+    public void setY(float value) {
+        super.setY(value);
+        boundsChanged();
+    }
+
+    @Override
+    public void setPosition(float x, float y) {
+        super.setPosition(x, y);
+        boundsChanged();
+    }
+
+    @Override
+    public void moveX(float value) {
+        super.moveX(value);
+        boundsChanged();
+    }
+
+    @Override
+    public void moveY(float value) {
+        super.moveY(value);
+        boundsChanged();
+    }
+
+    @Override
+    public void move(float x, float y) {
+        super.move(x, y);
+        boundsChanged();
+    }
+
+    /**
+     * Tells {@link FrameManager} that the registered frames at or below this component moved.
+     */
+    private void boundsChanged() {
+        if (frameIndexed) FrameManager.getInstance().invalidate(this);
     }
 
     public void applyResize() {
-        dispatchEvent(CommonEvent.Resize.create(getWidth(), getHeight()));
+        invalidateLayout();
     }
 
     public void disposeOnRemoveFromStage() {
@@ -219,6 +480,7 @@ abstract public class Component extends InteractiveGroup {
     public void setMinWidth(float value) {
         minWidth = value;
         applyResize();
+        invalidateMeasure();
     }
 
     public float getMinWidth() {
@@ -228,18 +490,33 @@ abstract public class Component extends InteractiveGroup {
     public void setMinHeight(float value) {
         minHeight = value;
         applyResize();
+        invalidateMeasure();
+    }
+
+    public float getMinHeight() {
+        return minHeight;
+    }
+
+    public float getMaxWidth() {
+        return maxWidth;
+    }
+
+    public float getMaxHeight() {
+        return maxHeight;
     }
 
     public void setMinSize(float width, float height) {
         minWidth = width;
         minHeight = height;
         applyResize();
+        invalidateMeasure();
     }
 
     public void setMaxSize(float width, float height) {
         maxWidth = width;
         maxHeight = height;
         applyResize();
+        invalidateMeasure();
     }
 
     public Frame getFrame() {
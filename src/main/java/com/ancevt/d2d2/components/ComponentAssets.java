@@ -24,6 +24,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class ComponentAssets {
@@ -81,19 +83,69 @@ public class ComponentAssets {
     public static final String ROUNDED_9_SIDE_BOTTOM = "d2d2-components-rounded-9-side-bottom";
     public static final String ROUNDED_9_SIDE_BOTTOM_RIGHT = "d2d2-components-rounded-9-side-bottom-right";
 
+    static final String TEXTURE_DATA_INFO = "d2d2-components.inf";
+    static final String TEXTURE_ATLAS = "d2d2-components.png";
+
     @Getter
     private static boolean initialized;
 
+    private static CompletableFuture<PreloadReport> preloadFuture;
+
+    @Getter
+    private static NineSliceStyle buttonStyle;
+    @Getter
+    private static NineSliceStyle borderStyle;
+    @Getter
+    private static NineSliceStyle rectBorderStyle;
+    @Getter
+    private static NineSliceStyle roundedStyle;
+
     public static void init() {
         if (!initialized) {
-            D2D2.getTextureManager().loadTextureDataInfo("d2d2-components.inf");
+            D2D2.getTextureManager().loadTextureDataInfo(TEXTURE_DATA_INFO);
             //Cursor.setDefaultCursorTheme();
+            resolveNineSliceStyles();
             initialized = true;
         } else {
             log.warn("Components already initialized");
         }
     }
 
+    /**
+     * Starts loading the component atlas and fonts so that the first component does not stall a
+     * frame. Must be called on the render thread; the future completes on the render thread once
+     * everything is loaded. Repeated calls return the same future.
+     */
+    public static CompletableFuture<PreloadReport> preloadAsync() {
+        if (preloadFuture == null) {
+            preloadFuture = new AssetPreloader().getFuture();
+        }
+        return preloadFuture;
+    }
+
+    private static void resolveNineSliceStyles() {
+        buttonStyle = NineSliceStyle.resolve(
+                BUTTON_9_SIDE_TOP_LEFT, BUTTON_9_SIDE_TOP, BUTTON_9_SIDE_TOP_RIGHT,
+                BUTTON_9_SIDE_LEFT, BUTTON_9_SIDE_CENTER, BUTTON_9_SIDE_RIGHT,
+                BUTTON_9_SIDE_BOTTOM_LEFT, BUTTON_9_SIDE_BOTTOM, BUTTON_9_SIDE_BOTTOM_RIGHT
+        );
+        borderStyle = NineSliceStyle.resolve(
+                BORDER_9_SIDE_TOP_LEFT, BORDER_9_SIDE_TOP, BORDER_9_SIDE_TOP_RIGHT,
+                BORDER_9_SIDE_LEFT, BORDER_9_SIDE_CENTER, BORDER_9_SIDE_RIGHT,
+                BORDER_9_SIDE_BOTTOM_LEFT, BORDER_9_SIDE_BOTTOM, BORDER_9_SIDE_BOTTOM_RIGHT
+        );
+        rectBorderStyle = NineSliceStyle.resolve(
+                RECT_BORDER_9_SIDE_TOP_LEFT, RECT_BORDER_9_SIDE_TOP, RECT_BORDER_9_SIDE_TOP_RIGHT,
+                RECT_BORDER_9_SIDE_LEFT, RECT_BORDER_9_SIDE_CENTER, RECT_BORDER_9_SIDE_RIGHT,
+                RECT_BORDER_9_SIDE_BOTTOM_LEFT, RECT_BORDER_9_SIDE_BOTTOM, RECT_BORDER_9_SIDE_BOTTOM_RIGHT
+        );
+        roundedStyle = NineSliceStyle.resolve(
+                ROUNDED_9_SIDE_TOP_LEFT, ROUNDED_9_SIDE_TOP, ROUNDED_9_SIDE_TOP_RIGHT,
+                ROUNDED_9_SIDE_LEFT, ROUNDED_9_SIDE_CENTER, ROUNDED_9_SIDE_RIGHT,
+                ROUNDED_9_SIDE_BOTTOM_LEFT, ROUNDED_9_SIDE_BOTTOM, ROUNDED_9_SIDE_BOTTOM_RIGHT
+        );
+    }
+
     public static TextureRegion getTexture(String textureKey) {
         return D2D2.getTextureManager().getTextureRegion(textureKey);
     }
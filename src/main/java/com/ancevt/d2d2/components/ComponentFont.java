@@ -21,8 +21,13 @@ package com.ancevt.d2d2.components;
 import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.scene.text.BitmapFont;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ComponentFont {
 
+    private static final String BITMAP_FONTS_DIR = "assets/bitmapfonts/";
+
     private static final String FONT_ASSET_MIDDLE = "terminus/Terminus-16-Bold";
     private static final String FONT_ASSET_SMALL = "terminus/Terminus-12";
 
@@ -32,6 +37,19 @@ public class ComponentFont {
     private static BitmapFont bitmapFontMiddleGlow;
     private static BitmapFont bitmapFontSmall;
 
+    /**
+     * Classpath locations the engine resolves the component fonts from. The glow font ships with
+     * this library; the terminus fonts are expected to come from the engine's own resources.
+     */
+    static List<String> getResourcePaths() {
+        List<String> paths = new ArrayList<>();
+        for (String asset : List.of(FONT_ASSET_MIDDLE, FONT_ASSET_SMALL, FONT_ASSET_MIDDLE_GLOW)) {
+            paths.add(BITMAP_FONTS_DIR + asset + ".png");
+            paths.add(BITMAP_FONTS_DIR + asset + ".bmf");
+        }
+        return paths;
+    }
+
     public static BitmapFont getFontMiddle() {
         if (bitmapFontMiddle == null) {
             bitmapFontMiddle = D2D2.getBitmapFontManager().loadBitmapFont(FONT_ASSET_MIDDLE + ".png", FONT_ASSET_MIDDLE + ".bmf");
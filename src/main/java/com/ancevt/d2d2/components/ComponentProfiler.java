@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.commons.string.TextTable;
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.StageEvent;
+import com.ancevt.d2d2.scene.Node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Frame cost of components, aggregated per class and per instance over a sliding window of the last
+ * {@link #WINDOW_FRAMES} frames. Instrumented code brackets its work with {@link #start()} and
+ * {@link #stop(Object, Section, long)}; while the profiler is disabled {@code start()} returns
+ * {@code 0} without reading the clock and {@code stop()} returns at once.
+ */
+public class ComponentProfiler {
+
+    public static final int WINDOW_FRAMES = 120;
+
+    public enum Section {
+        LAYOUT,
+        TICK,
+        POST_FRAME
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+
+    private static ComponentProfiler instance;
+    private static boolean enabled;
+
+    public static ComponentProfiler getInstance() {
+        return instance == null ? instance = new ComponentProfiler() : instance;
+    }
+
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(Object owner, Section section, long startTime) {
+        if (startTime == 0L || !enabled) return;
+        getInstance().record(owner, section, System.nanoTime() - startTime);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    private final Map<Class<?>, Sample[]> classSamples = new HashMap<>();
+    private final Map<Object, Sample[]> instanceSamples = new WeakHashMap<>();
+    private long frame;
+
+    private ComponentProfiler() {
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (ComponentProfiler.enabled == enabled) return;
+        ComponentProfiler.enabled = enabled;
+
+        if (enabled) {
+            D2D2.getStage().addEventListener(ComponentProfiler.class, StageEvent.PostFrame.class, e -> frame++);
+        } else {
+            D2D2.getStage().removeEventListener(ComponentProfiler.class, StageEvent.PostFrame.class);
+        }
+    }
+
+    public void reset() {
+        classSamples.clear();
+        instanceSamples.clear();
+    }
+
+    /**
+     * Renders the {@code limit} most expensive classes and instances of the window, sorted by time
+     * per frame.
+     */
+    public String render(int limit) {
+        int frames = (int) Math.min(frame + 1, WINDOW_FRAMES);
+
+        List<Row> rows = new ArrayList<>();
+        classSamples.forEach((type, samples) -> addRows(rows, type.getSimpleName(), samples));
+        instanceSamples.forEach((owner, samples) -> addRows(rows, getInstanceName(owner), samples));
+        rows.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+
+        TextTable textTable = new TextTable(false, "component", "section", "ms/frame", "calls/frame", "max ms");
+        for (int i = 0; i < rows.size() && i < limit; i++) {
+            Row row = rows.get(i);
+            textTable.addRow(
+                    row.name,
+                    row.section.name().toLowerCase(),
+                    String.format("%.3f", row.nanos / 1_000_000.0 / frames),
+                    String.format("%.1f", (double) row.calls / frames),
+                    String.format("%.3f", row.maxNanos / 1_000_000.0)
+            );
+        }
+
+        return (enabled ? "" : "(profiler disabled)\n") + textTable.render();
+    }
+
+    private void record(Object owner, Section section, long nanos) {
+        add(classSamples.computeIfAbsent(owner.getClass(), k -> new Sample[SECTIONS.length]), section, nanos);
+        add(instanceSamples.computeIfAbsent(owner, k -> new Sample[SECTIONS.length]), section, nanos);
+    }
+
+    private void add(Sample[] samples, Section section, long nanos) {
+        Sample sample = samples[section.ordinal()];
+        if (sample == null) {
+            sample = samples[section.ordinal()] = new Sample();
+        }
+        sample.add(frame, nanos);
+    }
+
+    private void addRows(List<Row> rows, String name, Sample[] samples) {
+        for (int i = 0; i < samples.length; i++) {
+            Sample sample = samples[i];
+            if (sample == null) continue;
+
+            sample.advance(frame);
+            Row row = new Row(name, SECTIONS[i]);
+            for (int j = 0; j < WINDOW_FRAMES; j++) {
+                row.nanos += sample.nanos[j];
+                row.calls += sample.calls[j];
+                row.maxNanos = Math.max(row.maxNanos, sample.nanos[j]);
+            }
+            if (row.calls > 0) rows.add(row);
+        }
+    }
+
+    private static String getInstanceName(Object owner) {
+        String name = owner.getClass().getSimpleName();
+        return owner instanceof Node node ? name + "#" + node.getNodeId() : name + "@" + Integer.toHexString(System.identityHashCode(owner));
+    }
+
+    private static class Sample {
+        private final long[] nanos = new long[WINDOW_FRAMES];
+        private final int[] calls = new int[WINDOW_FRAMES];
+        private long frame = -1;
+
+        private void add(long frame, long nanos) {
+            advance(frame);
+            int index = (int) (frame % WINDOW_FRAMES);
+            this.nanos[index] += nanos;
+            calls[index]++;
+        }
+
+        private void advance(long frame) {
+            if (frame <= this.frame) return;
+            for (long f = Math.max(this.frame + 1, frame - WINDOW_FRAMES + 1); f <= frame; f++) {
+                int index = (int) (f % WINDOW_FRAMES);
+                nanos[index] = 0;
+                calls[index] = 0;
+            }
+            this.frame = frame;
+        }
+    }
+
+    private static class Row {
+        private final String name;
+        private final Section section;
+        private long nanos;
+        private long calls;
+        private long maxNanos;
+
+        private Row(String name, Section section) {
+            this.name = name;
+            this.section = section;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.NodeEvent;
+import com.ancevt.d2d2.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared per-frame driver for component animations. Components subscribe a ticker instead of
+ * adding their own stage listener; the scheduler holds a single post-frame listener and runs a
+ * ticker only while its node is on the scene and visible. Subscriptions follow the node through
+ * {@link NodeEvent.AddToScene} and {@link NodeEvent.RemoveFromScene} and should be dropped with
+ * {@link #unsubscribe(Node)} when the node is disposed. The scheduler keeps no reference to
+ * nodes that are off the scene, so a detached node that was never unsubscribed is still
+ * collectable.
+ */
+public class ComponentScheduler {
+
+    private static ComponentScheduler instance;
+
+    public static ComponentScheduler getInstance() {
+        return instance == null ? instance = new ComponentScheduler() : instance;
+    }
+
+    private final List<Ticker> activeTickers;
+    private boolean ticking;
+    private boolean hasRemovals;
+
+    private ComponentScheduler() {
+        activeTickers = new ArrayList<>();
+
+        D2D2.getStage().onPostFrame(e -> postFrame());
+    }
+
+    public void subscribe(Node node, Runnable action) {
+        unsubscribe(node);
+
+        Ticker ticker = new Ticker(node, action);
+
+        node.addEventListener(ComponentScheduler.class, NodeEvent.AddToScene.class, e -> activate(ticker));
+        node.addEventListener(ComponentScheduler.class, NodeEvent.RemoveFromScene.class, e -> deactivate(ticker));
+
+        if (node.isOnScreen()) {
+            activate(ticker);
+        }
+    }
+
+    public void unsubscribe(Node node) {
+        node.removeEventListener(ComponentScheduler.class, NodeEvent.AddToScene.class);
+        node.removeEventListener(ComponentScheduler.class, NodeEvent.RemoveFromScene.class);
+
+        for (int i = 0; i < activeTickers.size(); i++) {
+            Ticker ticker = activeTickers.get(i);
+            if (ticker.node == node && ticker.active) {
+                deactivate(ticker);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return number of tickers whose nodes are currently on the scene
+     */
+    public int getActiveTickerCount() {
+        int count = 0;
+        for (Ticker ticker : activeTickers) {
+            if (ticker.active) count++;
+        }
+        return count;
+    }
+
+    private void activate(Ticker ticker) {
+        if (ticker.active) return;
+        ticker.active = true;
+        if (!ticker.listed) {
+            ticker.listed = true;
+            activeTickers.add(ticker);
+        }
+    }
+
+    private void deactivate(Ticker ticker) {
+        if (!ticker.active) return;
+        ticker.active = false;
+
+        // Removal during a frame is deferred so the iteration in postFrame() stays valid
+        if (ticking) {
+            hasRemovals = true;
+        } else {
+            activeTickers.remove(ticker);
+            ticker.listed = false;
+        }
+    }
+
+    private void postFrame() {
+        ticking = true;
+        try {
+            int size = activeTickers.size();
+            for (int i = 0; i < size; i++) {
+                Ticker ticker = activeTickers.get(i);
+                if (ticker.active && ticker.node.isVisible()) {
+                    long time = ComponentProfiler.start();
+                    ticker.action.run();
+                    ComponentProfiler.stop(ticker.node, ComponentProfiler.Section.TICK, time);
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+
+        if (hasRemovals) {
+            hasRemovals = false;
+            activeTickers.removeIf(ticker -> {
+                if (ticker.active) return false;
+                ticker.listed = false;
+                return true;
+            });
+        }
+    }
+
+    private static class Ticker {
+        private final Node node;
+        private final Runnable action;
+        private boolean active;
+        private boolean listed;
+
+        private Ticker(Node node, Runnable action) {
+            this.node = node;
+            this.action = action;
+        }
+    }
+}
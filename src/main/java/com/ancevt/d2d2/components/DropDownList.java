@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.ancevt.d2d2.D2D2.getStage;
 
@@ -61,21 +62,11 @@ public class DropDownList<T> extends Component {
         scrollPane = new ScrollPane();
         scrollPane.setItemHeight(DEFAULT_HEIGHT);
 
-        bg = new RectangleShape(1, 1, BACKGROUND_COLOR);
+        bg = new RectangleShape(1, 1, resolve(ThemeToken.BACKGROUND_COLOR));
         addChild(bg);
 
-        borders = new Combined9Sprites(
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_CENTER),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_RIGHT)
-        );
-        borders.setColor(FOREGROUND_COLOR);
+        borders = ComponentAssets.getRectBorderStyle().createSprites();
+        borders.setColor(resolve(ThemeToken.FOREGROUND_COLOR));
         addChild(borders);
 
         bitmapText = new BitmapText();
@@ -101,6 +92,12 @@ public class DropDownList<T> extends Component {
         cutText(bitmapText, getWidth());
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) bg.setColor(resolve(ThemeToken.BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.FOREGROUND_COLOR, changed)) borders.setColor(resolve(ThemeToken.FOREGROUND_COLOR));
+    }
+
     private long oldTime;
 
     private void this_down(InputEvent.MouseDown e) {
@@ -250,7 +247,7 @@ public class DropDownList<T> extends Component {
             textString = text;
             this.object = object;
 
-            bg = new RectangleShape(1, 1, BACKGROUND_COLOR);
+            bg = new RectangleShape(1, 1, resolve(ThemeToken.BACKGROUND_COLOR));
             addChild(bg);
 
             this.bitmapText = new BitmapText();
@@ -272,6 +269,11 @@ public class DropDownList<T> extends Component {
             cutText(bitmapText, getWidth());
         }
 
+        @Override
+        protected void themeChanged(Set<ThemeToken<?>> changed) {
+            if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) bg.setColor(resolve(ThemeToken.BACKGROUND_COLOR));
+        }
+
         private void this_down(InputEvent.MouseDown event) {
             dropDownList.setItem(object);
             dropDownList.close();
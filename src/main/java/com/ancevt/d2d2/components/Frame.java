@@ -21,7 +21,6 @@ package com.ancevt.d2d2.components;
 import com.ancevt.d2d2.event.CommonEvent;
 import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.event.NodeEvent;
-import com.ancevt.d2d2.event.StageEvent;
 import com.ancevt.d2d2.event.core.Event;
 import com.ancevt.d2d2.event.core.EventPool;
 import com.ancevt.d2d2.event.core.EventPooled;
@@ -32,6 +31,8 @@ import com.ancevt.d2d2.scene.interactive.DragUtil;
 import com.ancevt.d2d2.scene.shape.RectangleShape;
 import lombok.Getter;
 
+import java.util.Set;
+
 import static com.ancevt.d2d2.D2D2.getStage;
 
 public class Frame extends Component {
@@ -43,18 +44,25 @@ public class Frame extends Component {
 
     private static final float RESIZE_SPREAD = 8.0f;
 
+    static final int ZONE_NONE = -1;
+    static final int ZONE_CENTER = 0;
+    static final int ZONE_LEFT = 1;
+    static final int ZONE_TOP = 1 << 1;
+    static final int ZONE_RIGHT = 1 << 2;
+    static final int ZONE_BOTTOM = 1 << 3;
+
     private final FrameTitle frameTitle;
     private final RectangleShape bg1;
     private final Combined9Sprites borders;
 
     @Getter
-    private Color colorBackground1 = Color.of(0x161A1D);
+    private Color colorBackground1 = resolve(ThemeToken.FRAME_BACKGROUND_COLOR_1);
     @Getter
-    private Color colorBackground2 = Color.of(0x000306);
+    private Color colorBackground2 = resolve(ThemeToken.FRAME_BACKGROUND_COLOR_2);
     @Getter
-    private Color colorBorder = Color.of(0x7E7E7E);
+    private Color colorBorder = resolve(ThemeToken.FRAME_BORDER_COLOR);
     @Getter
-    private float backgroundAlpha = 0.9f;
+    private float backgroundAlpha = resolve(ThemeToken.FRAME_BG_ALPHA);
     @Getter
     private boolean dragEnabled;
 
@@ -69,6 +77,7 @@ public class Frame extends Component {
     private float manualResizeY;
     private float manualResizeHeight;
     private boolean manualResizingNow;
+    private int resizeZone = ZONE_NONE;
 
     @Getter
     private final Component contentPanel = new Panel();
@@ -80,26 +89,18 @@ public class Frame extends Component {
         addChild(bg1);
 
         frameTitle = new FrameTitle();
-        frameTitle.setTextColor(Component.INACTIVE_FRAME_TITLE_COLOR);
+        frameTitle.setTextColor(resolve(ThemeToken.INACTIVE_FRAME_TITLE_COLOR));
         addChild(frameTitle);
 
-        borders = new Combined9Sprites(new String[]{
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP,
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP_RIGHT,
-                ComponentAssets.RECT_BORDER_9_SIDE_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_CENTER,
-                ComponentAssets.RECT_BORDER_9_SIDE_RIGHT,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_RIGHT
-        });
+        borders = ComponentAssets.getRectBorderStyle().createSprites();
         borders.setColor(colorBorder);
         addChild(borders);
 
         setComponentFocusRectVisibleEnabled(false);
 
         addEventListener(Frame.class, NodeEvent.AddToScene.class, this::this_addToStage);
+        addEventListener(FrameManager.class, NodeEvent.AddToScene.class, e -> FrameManager.getInstance().register(this));
+        addEventListener(FrameManager.class, NodeEvent.RemoveFromScene.class, e -> FrameManager.getInstance().unregister(this));
         addEventListener(Frame.class, CommonEvent.Resize.class, this::this_resize);
         addEventListener(Frame.class, CommonEvent.Activate.class, this::this_activate);
         addEventListener(Frame.class, CommonEvent.Deactivate.class, this::this_deactivate);
@@ -117,11 +118,11 @@ public class Frame extends Component {
     }
 
     private void this_activate(CommonEvent.Activate event) {
-        frameTitle.setTextColor(Component.ACTIVE_FRAME_TITLE_COLOR);
+        frameTitle.setTextColor(resolve(ThemeToken.ACTIVE_FRAME_TITLE_COLOR));
     }
 
     private void this_deactivate(CommonEvent.Deactivate event) {
-        frameTitle.setTextColor(Component.INACTIVE_FRAME_TITLE_COLOR);
+        frameTitle.setTextColor(resolve(ThemeToken.INACTIVE_FRAME_TITLE_COLOR));
     }
 
     public void setDragEnabled(boolean value) {
@@ -140,40 +141,34 @@ public class Frame extends Component {
         this.manualResizable = manualResizable;
 
         if (manualResizable) {
-            addEventListener("manualResize", StageEvent.Tick.class, this::this_manualResizeEachFrame);
             addEventListener("manualResize", InputEvent.MouseDown.class, this::this_manualResizeDown);
             addEventListener("manualResize", InputEvent.MouseUp.class, this::this_manualResizeUp);
             addEventListener("manualResize", InputEvent.MouseDrag.class, this::this_manualResizeDrag);
-            addEventListener("manualResize", InputEvent.MouseOut.class, this::this_manualResizeOut);
         } else {
-            removeEventListener("manualResize", StageEvent.Tick.class);
             removeEventListener("manualResize", InputEvent.MouseDown.class);
             removeEventListener("manualResize", InputEvent.MouseUp.class);
             removeEventListener("manualResize", InputEvent.MouseDrag.class);
-            removeEventListener("manualResize", InputEvent.MouseOut.class);
+            resizePointerLeft();
         }
     }
 
-    private void this_manualResizeOut(InputEvent.MouseOut event) {
-        Cursor.switchToIdle();
-        frameTitle.setInteractionEnabled(true);
-    }
-
     private void this_manualResizeDown(InputEvent.MouseDown event) {
-        manualResizeRight = isResizeCursorOnRight();
-        manualResizeBottom = isResizeCursorOnBottom();
-        if (isResizeCursorOnLeft()) {
+        int zone = resizeZone;
+
+        manualResizeRight = (zone & ZONE_RIGHT) != 0;
+        manualResizeBottom = (zone & ZONE_BOTTOM) != 0;
+        if ((zone & ZONE_LEFT) != 0) {
             manualResizeX = Mouse.getX();
             manualResizeWidth = getWidth();
-            manualResizeLeft = isResizeCursorOnLeft();
+            manualResizeLeft = true;
         }
-        if (isResizeCursorOnTop()) {
+        if ((zone & ZONE_TOP) != 0) {
             manualResizeY = Mouse.getY();
             manualResizeHeight = getHeight();
-            manualResizeTop = isResizeCursorOnTop();
+            manualResizeTop = true;
         }
 
-        if (!isResizeCursorInCenter()) {
+        if (zone != ZONE_CENTER && zone != ZONE_NONE) {
             manualResizingNow = true;
             dispatchEvent(ResizeStartEvent.create());
         }
@@ -208,98 +203,77 @@ public class Frame extends Component {
         Cursor.switchToIdle();
 
         if (manualResizingNow) {
+            manualResizingNow = false;
+            resizeZone = ZONE_NONE;
             dispatchEvent(ResizeCompleteEvent.create());
         }
     }
 
-    private void this_manualResizeEachFrame(Event event) {
-        if (isResizeCursorOnBottomRight()) {
-            Cursor.switchToResize(45.0f);
-            frameTitle.setInteractionEnabled(true);
-        } else if (isResizeCursorOnBottomLeft()) {
-            Cursor.switchToResize(140.0f);
-            frameTitle.setInteractionEnabled(true);
-        } else if (isResizeCursorOnTopLeft()) {
-            Cursor.switchToResize(220.f);
-            frameTitle.setInteractionEnabled(false);
-        } else if (isResizeCursorOnTopRight()) {
-            Cursor.switchToResize(320.0f);
-            frameTitle.setInteractionEnabled(false);
-        } else if (isResizeCursorOnRight()) {
-            Cursor.switchToResize(0.0f);
-            frameTitle.setInteractionEnabled(true);
-        } else if (isResizeCursorOnBottom()) {
-            Cursor.switchToResize(90.0f);
-            frameTitle.setInteractionEnabled(true);
-        } else if (isResizeCursorOnLeft()) {
-            frameTitle.setInteractionEnabled(true);
-            Cursor.switchToResize(180.0f);
-        } else if (isResizeCursorOnTop()) {
-            Cursor.switchToResize(270.0f);
-            frameTitle.setInteractionEnabled(false);
-        } else if (isResizeCursorInCenter()) {
-            Cursor.switchToIdle();
-            frameTitle.setInteractionEnabled(true);
+    /**
+     * Called by {@link FrameManager} from its stage-level mouse move listener while this frame is the
+     * topmost one under the pointer, so title and content children cannot swallow the move.
+     *
+     * @param x pointer position relative to the frame
+     * @param y pointer position relative to the frame
+     */
+    void resizePointerMoved(float x, float y) {
+        if (!manualResizable || manualResizingNow) return;
+
+        int zone = computeResizeZone(x, y);
+        if (zone == resizeZone) return;
+        resizeZone = zone;
+
+        switch (zone) {
+            case ZONE_BOTTOM | ZONE_RIGHT -> switchToResizeCursor(45.0f, true);
+            case ZONE_BOTTOM | ZONE_LEFT -> switchToResizeCursor(140.0f, true);
+            case ZONE_TOP | ZONE_LEFT -> switchToResizeCursor(220.0f, false);
+            case ZONE_TOP | ZONE_RIGHT -> switchToResizeCursor(320.0f, false);
+            case ZONE_RIGHT -> switchToResizeCursor(0.0f, true);
+            case ZONE_BOTTOM -> switchToResizeCursor(90.0f, true);
+            case ZONE_LEFT -> switchToResizeCursor(180.0f, true);
+            case ZONE_TOP -> switchToResizeCursor(270.0f, false);
+            case ZONE_CENTER -> {
+                Cursor.switchToIdle();
+                frameTitle.setInteractionEnabled(true);
+            }
         }
     }
 
-    private boolean isResizeCursorInCenter() {
-        float mouseX = Mouse.getX();
-        float mouseY = Mouse.getY();
-
-        return mouseX > getGlobalX() + RESIZE_SPREAD &&
-                mouseX < getGlobalX() + getWidth() - RESIZE_SPREAD &&
-                mouseY > getGlobalY() + RESIZE_SPREAD &&
-                mouseY < getGlobalY() + getHeight() - RESIZE_SPREAD;
-
-    }
-
-    private boolean isResizeCursorOnRight() {
-        float mouseX = Mouse.getX();
-        float mouseY = Mouse.getY();
-
-        return mouseY > getGlobalY() && mouseY < getGlobalY() + getHeight() &&
-                mouseX >= getGlobalX() + getWidth() - RESIZE_SPREAD && mouseX <= getGlobalX() + getWidth();
-    }
-
-    private boolean isResizeCursorOnBottomRight() {
-        return isResizeCursorOnBottom() && isResizeCursorOnRight();
-    }
-
-    private boolean isResizeCursorOnBottom() {
-        float mouseX = Mouse.getX();
-        float mouseY = Mouse.getY();
-
-        return mouseX > getGlobalX() && mouseX < getGlobalX() + getWidth() &&
-                mouseY >= getGlobalY() + getHeight() - RESIZE_SPREAD && mouseY <= getGlobalY() + getHeight();
-    }
-
-    private boolean isResizeCursorOnBottomLeft() {
-        return isResizeCursorOnBottom() && isResizeCursorOnLeft();
+    /**
+     * Called by {@link FrameManager} when the pointer is no longer over this frame.
+     */
+    void resizePointerLeft() {
+        if (manualResizingNow || resizeZone == ZONE_NONE) return;
+        resizeZone = ZONE_NONE;
+        Cursor.switchToIdle();
+        frameTitle.setInteractionEnabled(true);
     }
 
-    private boolean isResizeCursorOnLeft() {
-        float mouseX = Mouse.getX();
-        float mouseY = Mouse.getY();
-
-        return mouseY > getGlobalY() && mouseY < getGlobalY() + getHeight() &&
-                mouseX > getGlobalX() && mouseX < getGlobalX() + RESIZE_SPREAD;
+    int getResizeZone() {
+        return resizeZone;
     }
 
-    private boolean isResizeCursorOnTopLeft() {
-        return isResizeCursorOnTop() && isResizeCursorOnLeft();
+    private void switchToResizeCursor(float angle, boolean titleInteractionEnabled) {
+        Cursor.switchToResize(angle);
+        frameTitle.setInteractionEnabled(titleInteractionEnabled);
     }
 
-    private boolean isResizeCursorOnTop() {
-        float mouseX = Mouse.getX();
-        float mouseY = Mouse.getY();
+    /**
+     * @return bitmask of the {@code ZONE_*} edges under the local point, {@link #ZONE_CENTER} inside
+     * the edges or {@link #ZONE_NONE} outside the frame
+     */
+    private int computeResizeZone(float x, float y) {
+        float width = getWidth();
+        float height = getHeight();
 
-        return mouseX > getGlobalX() && mouseX < getGlobalX() + getWidth() &&
-                mouseY > getGlobalY() && mouseY < getGlobalY() + RESIZE_SPREAD;
-    }
+        if (x < 0 || x > width || y < 0 || y > height) return ZONE_NONE;
 
-    private boolean isResizeCursorOnTopRight() {
-        return isResizeCursorOnTop() && isResizeCursorOnRight();
+        int zone = ZONE_CENTER;
+        if (x < RESIZE_SPREAD) zone |= ZONE_LEFT;
+        else if (x >= width - RESIZE_SPREAD) zone |= ZONE_RIGHT;
+        if (y < RESIZE_SPREAD) zone |= ZONE_TOP;
+        else if (y >= height - RESIZE_SPREAD) zone |= ZONE_BOTTOM;
+        return zone;
     }
 
     private void this_addToStage(Event event) {
@@ -312,6 +286,12 @@ public class Frame extends Component {
         this.setPosition((getStage().getWidth() - getWidth()) / 2, (getStage().getHeight() - getHeight()) / 2);
     }
 
+    @Override
+    public void dispose() {
+        FrameManager.getInstance().unregister(this);
+        super.dispose();
+    }
+
     private void this_resize(Event event) {
         frameTitle.setSize(getWidth(), DEFAULT_TITLE_HEIGHT);
 
@@ -331,21 +311,42 @@ public class Frame extends Component {
     }
 
     public void setColorBackground1(Color colorBackground1) {
+        markCustomized(ThemeToken.FRAME_BACKGROUND_COLOR_1);
+        applyColorBackground1(colorBackground1);
+    }
+
+    private void applyColorBackground1(Color colorBackground1) {
         this.colorBackground1 = colorBackground1;
         this_resize(null);
     }
 
     public void setColorBackground2(Color colorBackground2) {
+        markCustomized(ThemeToken.FRAME_BACKGROUND_COLOR_2);
+        applyColorBackground2(colorBackground2);
+    }
+
+    private void applyColorBackground2(Color colorBackground2) {
         this.colorBackground2 = colorBackground2;
         this_resize(null);
     }
 
     public void setColorBorder(Color colorBorder) {
+        markCustomized(ThemeToken.FRAME_BORDER_COLOR);
+        applyColorBorder(colorBorder);
+    }
+
+    private void applyColorBorder(Color colorBorder) {
         this.colorBorder = colorBorder;
+        borders.setColor(colorBorder);
         this_resize(null);
     }
 
     public void setBackgroundAlpha(float backgroundAlpha) {
+        markCustomized(ThemeToken.FRAME_BG_ALPHA);
+        applyBackgroundAlpha(backgroundAlpha);
+    }
+
+    private void applyBackgroundAlpha(float backgroundAlpha) {
         this.backgroundAlpha = backgroundAlpha;
         this_resize(null);
     }
@@ -359,6 +360,19 @@ public class Frame extends Component {
         return frameTitle.getText();
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.FRAME_BACKGROUND_COLOR_1, changed)) applyColorBackground1(resolve(ThemeToken.FRAME_BACKGROUND_COLOR_1));
+        if (isThemeChanged(ThemeToken.FRAME_BACKGROUND_COLOR_2, changed)) applyColorBackground2(resolve(ThemeToken.FRAME_BACKGROUND_COLOR_2));
+        if (isThemeChanged(ThemeToken.FRAME_BORDER_COLOR, changed)) applyColorBorder(resolve(ThemeToken.FRAME_BORDER_COLOR));
+        if (isThemeChanged(ThemeToken.FRAME_BG_ALPHA, changed)) applyBackgroundAlpha(resolve(ThemeToken.FRAME_BG_ALPHA));
+        if (isThemeChanged(ThemeToken.ACTIVE_FRAME_TITLE_COLOR, changed) || isThemeChanged(ThemeToken.INACTIVE_FRAME_TITLE_COLOR, changed)) {
+            frameTitle.setTextColor(resolve(FrameManager.getInstance().getActiveFrame() == this
+                    ? ThemeToken.ACTIVE_FRAME_TITLE_COLOR
+                    : ThemeToken.INACTIVE_FRAME_TITLE_COLOR));
+        }
+    }
+
     @Override
     public void update() {
 
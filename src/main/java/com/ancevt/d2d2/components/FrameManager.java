@@ -18,49 +18,191 @@
 
 package com.ancevt.d2d2.components;
 
+import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.event.CommonEvent;
+import com.ancevt.d2d2.event.InputEvent;
+import com.ancevt.d2d2.input.Mouse;
 import com.ancevt.d2d2.scene.Group;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Keeps track of the frames on the scene and which one is active.
+ * <p>
+ * Registered frames are indexed by their global bounds in a uniform grid, so point queries only
+ * test the frames overlapping one cell. Each frame carries a z stamp that is bumped when it is
+ * registered or activated; among the frames under a point a nested frame wins over its ancestor,
+ * otherwise the highest stamp wins.
+ * <p>
+ * An entry is re-indexed on the next query only after it was marked dirty. Components mark the
+ * entries at or below them from their position and size setters, so a move of the frame itself
+ * or of any component above it is picked up. Moves of plain (non-component) groups above a frame
+ * are not tracked; call {@link #invalidateAll()} after those. Visibility and on-screen state are
+ * checked live for every candidate.
+ * <p>
+ * While any frame is registered, one stage-level mouse move listener hit-tests the pointer and
+ * forwards it to the topmost frame for its resize edge detection, since the frame's own title and
+ * content children would otherwise receive those moves instead of the frame.
+ */
 public class FrameManager {
 
+    private static final float CELL_SIZE = 128.0f;
+
     private static FrameManager instance;
 
     public static FrameManager getInstance() {
         return instance == null ? instance = new FrameManager() : instance;
     }
 
-    private final List<Component> frameList;
+    private final Map<Component, Entry> entries;
+    private final Map<Component, List<Entry>> dependents;
+    private final Map<CellKey, List<Entry>> grid;
+    private final List<Entry> dirtyEntries;
+    private final CellKey probe;
+    private long zCounter;
+    private Frame hoveredFrame;
 
     @Getter
     private Frame activeFrame;
 
     private FrameManager() {
-        frameList = new ArrayList<>();
+        entries = new IdentityHashMap<>();
+        dependents = new IdentityHashMap<>();
+        grid = new HashMap<>();
+        dirtyEntries = new ArrayList<>();
+        probe = new CellKey();
     }
 
     public void register(Component component) {
-        frameList.add(component);
+        Entry entry = entries.get(component);
+        if (entry == null) {
+            if (entries.isEmpty()) {
+                D2D2.getStage().addEventListener(FrameManager.class, InputEvent.MouseMove.class, e -> pointerMoved(Mouse.getX(), Mouse.getY()));
+            }
+
+            entry = new Entry(component);
+            entries.put(component, entry);
+
+            Group group = component;
+            while (group != null) {
+                if (group instanceof Component ancestor) {
+                    dependents.computeIfAbsent(ancestor, k -> new ArrayList<>(2)).add(entry);
+                    ancestor.frameIndexed = true;
+                    entry.ancestors.add(ancestor);
+                }
+                group = group.getParent();
+            }
+        }
+        entry.z = ++zCounter;
+        markDirty(entry);
     }
 
     public void unregister(Component component) {
-        frameList.remove(component);
+        Entry entry = entries.remove(component);
+        if (entry == null) return;
+
+        for (Component ancestor : entry.ancestors) {
+            List<Entry> list = dependents.get(ancestor);
+            if (list == null) continue;
+            list.remove(entry);
+            if (list.isEmpty()) {
+                dependents.remove(ancestor);
+                ancestor.frameIndexed = false;
+            }
+        }
+
+        removeFromGrid(entry);
+        if (entry.dirty) {
+            entry.dirty = false;
+            dirtyEntries.remove(entry);
+        }
+
+        if (component == hoveredFrame) {
+            hoveredFrame.resizePointerLeft();
+            hoveredFrame = null;
+        }
+
+        if (entries.isEmpty()) {
+            D2D2.getStage().removeEventListener(FrameManager.class, InputEvent.MouseMove.class);
+        }
+    }
+
+    /**
+     * Marks the registered frames at or below the component as moved or resized. Called by
+     * {@link Component} from its position and size setters.
+     */
+    public void invalidate(Component component) {
+        List<Entry> list = dependents.get(component);
+        if (list == null) return;
+
+        for (int i = 0; i < list.size(); i++) {
+            markDirty(list.get(i));
+        }
+    }
+
+    /**
+     * Marks every registered frame as moved, for changes the components cannot see themselves,
+     * such as moving a plain group that contains frames.
+     */
+    public void invalidateAll() {
+        for (Entry entry : entries.values()) {
+            markDirty(entry);
+        }
     }
 
     public boolean isPointUnderAnyFrame(float x, float y) {
-        for (Component component : frameList) {
-            if (component.isOnScreen() && component.isVisible() &&
-                    x >= component.getX() && x < component.getX() + component.getWidth() &&
-                    y >= component.getY() && y < component.getY() + component.getHeight()) {
+        return getFrameUnderPoint(x, y) != null;
+    }
+
+    /**
+     * @return the topmost visible registered frame containing the global point, or {@code null}
+     */
+    public Component getFrameUnderPoint(float x, float y) {
+        Entry top = findEntryUnderPoint(x, y);
+        return top != null ? top.component : null;
+    }
+
+    public int getRegisteredCount() {
+        return entries.size();
+    }
+
+    /**
+     * Routes a global pointer position to the resize edge detection of the topmost frame under it.
+     */
+    void pointerMoved(float x, float y) {
+        Entry top = findEntryUnderPoint(x, y);
+        Frame frame = top != null && top.component instanceof Frame f && f.isManualResizable() ? f : null;
+
+        if (frame != hoveredFrame) {
+            if (hoveredFrame != null) hoveredFrame.resizePointerLeft();
+            hoveredFrame = frame;
+        }
 
-                return true;
+        if (frame != null) {
+            frame.resizePointerMoved(x - top.x, y - top.y);
+        }
+    }
+
+    private Entry findEntryUnderPoint(float x, float y) {
+        validate();
+
+        List<Entry> cell = grid.get(probe.set(cell(x), cell(y)));
+        if (cell == null) return null;
+
+        Entry top = null;
+        for (int i = 0; i < cell.size(); i++) {
+            Entry entry = cell.get(i);
+            if (entry.contains(x, y) && isHittable(entry.component) && (top == null || isAbove(entry, top))) {
+                top = entry;
             }
         }
 
-        return false;
+        return top;
     }
 
     void activateFrame(Frame frame) {
@@ -79,8 +221,151 @@ public class FrameManager {
                 parent.addChild(activeFrame);
             }
 
+            Entry entry = entries.get(activeFrame);
+            if (entry != null) {
+                entry.z = ++zCounter;
+            }
+
             activeFrame.dispatchEvent(CommonEvent.Activate.create());
         }
 
     }
+
+    private void markDirty(Entry entry) {
+        if (entry.dirty) return;
+        entry.dirty = true;
+        dirtyEntries.add(entry);
+    }
+
+    private void validate() {
+        if (dirtyEntries.isEmpty()) return;
+
+        for (int i = 0; i < dirtyEntries.size(); i++) {
+            Entry entry = dirtyEntries.get(i);
+            entry.dirty = false;
+
+            Component component = entry.component;
+            float x = component.getGlobalX();
+            float y = component.getGlobalY();
+            float width = component.getWidth();
+            float height = component.getHeight();
+
+            if (entry.indexed && x == entry.x && y == entry.y && width == entry.width && height == entry.height) {
+                continue;
+            }
+
+            removeFromGrid(entry);
+            entry.x = x;
+            entry.y = y;
+            entry.width = width;
+            entry.height = height;
+            addToGrid(entry);
+        }
+        dirtyEntries.clear();
+    }
+
+    private static boolean isHittable(Component component) {
+        return component.isOnScreen() && component.isVisible();
+    }
+
+    private void addToGrid(Entry entry) {
+        entry.cellX1 = cell(entry.x);
+        entry.cellY1 = cell(entry.y);
+        entry.cellX2 = cell(entry.x + entry.width);
+        entry.cellY2 = cell(entry.y + entry.height);
+
+        for (int cy = entry.cellY1; cy <= entry.cellY2; cy++) {
+            for (int cx = entry.cellX1; cx <= entry.cellX2; cx++) {
+                List<Entry> cell = grid.get(probe.set(cx, cy));
+                if (cell == null) {
+                    cell = new ArrayList<>(4);
+                    grid.put(new CellKey().set(cx, cy), cell);
+                }
+                cell.add(entry);
+            }
+        }
+        entry.indexed = true;
+    }
+
+    private void removeFromGrid(Entry entry) {
+        if (!entry.indexed) return;
+
+        for (int cy = entry.cellY1; cy <= entry.cellY2; cy++) {
+            for (int cx = entry.cellX1; cx <= entry.cellX2; cx++) {
+                List<Entry> cell = grid.get(probe.set(cx, cy));
+                if (cell != null) {
+                    cell.remove(entry);
+                    if (cell.isEmpty()) grid.remove(probe);
+                }
+            }
+        }
+        entry.indexed = false;
+    }
+
+    private static boolean isAbove(Entry a, Entry b) {
+        if (isSameOrDescendant(a.component, b.component)) return true;
+        if (isSameOrDescendant(b.component, a.component)) return false;
+        return a.z > b.z;
+    }
+
+    private static boolean isSameOrDescendant(Group node, Group ancestor) {
+        Group group = node;
+        while (group != null) {
+            if (group == ancestor) return true;
+            group = group.getParent();
+        }
+        return false;
+    }
+
+    private static int cell(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    /**
+     * Grid cell coordinates. Lookups reuse one mutable probe instead of boxing a key per query.
+     */
+    private static final class CellKey {
+        private int cx;
+        private int cy;
+
+        private CellKey set(int cx, int cy) {
+            this.cx = cx;
+            this.cy = cy;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CellKey other && other.cx == cx && other.cy == cy;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * cx + cy;
+        }
+    }
+
+    private static class Entry {
+        private final Component component;
+        private final List<Component> ancestors = new ArrayList<>(4);
+        private long z;
+        private boolean dirty;
+        private boolean indexed;
+        private float x;
+        private float y;
+        private float width;
+        private float height;
+        private int cellX1;
+        private int cellY1;
+        private int cellX2;
+        private int cellY2;
+
+        private Entry(Component component) {
+            this.component = component;
+        }
+
+        private boolean contains(float px, float py) {
+            return px >= x && px < x + width && py >= y && py < y + height;
+        }
+    }
 }
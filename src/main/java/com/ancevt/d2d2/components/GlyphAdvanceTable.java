@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.scene.text.BitmapFont;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Prefix sums of glyph advances for a single line of text, so caret placement and hit-testing
+ * work with proportional fonts. {@code getX(i)} is the offset of the boundary before char
+ * {@code i} and is O(1); {@link #getIndexAt(float)} is a binary search. Advances are integer
+ * pixel widths, so the sums are exact and do not drift. Per-font advances are cached by char code
+ * and shared between all tables.
+ */
+class GlyphAdvanceTable {
+
+    private static final Map<BitmapFont, int[]> ADVANCE_CACHE = new WeakHashMap<>();
+    private static final int UNKNOWN = -1;
+
+    private BitmapFont bitmapFont;
+    private int[] advances = new int[0];
+    private int[] prefix = new int[16];
+    private int length;
+
+    GlyphAdvanceTable(BitmapFont bitmapFont) {
+        this.bitmapFont = bitmapFont;
+        advances = ADVANCE_CACHE.getOrDefault(bitmapFont, advances);
+    }
+
+    void setBitmapFont(BitmapFont bitmapFont, CharSequence text) {
+        this.bitmapFont = bitmapFont;
+        advances = ADVANCE_CACHE.getOrDefault(bitmapFont, new int[0]);
+        set(text);
+    }
+
+    void set(CharSequence text) {
+        length = 0;
+        insert(0, text);
+    }
+
+    void insert(int index, CharSequence text) {
+        int count = text.length();
+        if (count == 0) return;
+
+        ensureCapacity(length + count + 1);
+        System.arraycopy(prefix, index + 1, prefix, index + 1 + count, length - index);
+
+        int x = prefix[index];
+        for (int i = 0; i < count; i++) {
+            x += getAdvance(text.charAt(i));
+            prefix[index + 1 + i] = x;
+        }
+
+        int delta = x - prefix[index];
+        length += count;
+        for (int i = index + count + 1; i <= length; i++) {
+            prefix[i] += delta;
+        }
+    }
+
+    void delete(int from, int to) {
+        if (from >= to) return;
+
+        int delta = prefix[to] - prefix[from];
+        System.arraycopy(prefix, to + 1, prefix, from + 1, length - to);
+        length -= to - from;
+        for (int i = from + 1; i <= length; i++) {
+            prefix[i] -= delta;
+        }
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return x offset of the boundary before char {@code index}, clamped to {@code [0, length]}
+     */
+    float getX(int index) {
+        return prefix[Math.max(0, Math.min(index, length))];
+    }
+
+    float getWidth() {
+        return prefix[length];
+    }
+
+    float getWidth(int from, int to) {
+        return prefix[to] - prefix[from];
+    }
+
+    /**
+     * @return index of the char boundary nearest to {@code x}
+     */
+    int getIndexAt(float x) {
+        if (x <= 0) return 0;
+        if (x >= prefix[length]) return length;
+
+        int low = 0;
+        int high = length;
+        while (low < high - 1) {
+            int mid = (low + high) >>> 1;
+            if (prefix[mid] <= x) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        return x - prefix[low] < prefix[high] - x ? low : high;
+    }
+
+    int getAdvance(char c) {
+        if (c < advances.length && advances[c] != UNKNOWN) return advances[c];
+
+        if (c >= advances.length) {
+            int oldLength = advances.length;
+            advances = Arrays.copyOf(advances, Math.max(c + 1, Math.max(128, oldLength * 2)));
+            Arrays.fill(advances, oldLength, advances.length, UNKNOWN);
+            ADVANCE_CACHE.put(bitmapFont, advances);
+        }
+
+        int advance = bitmapFont.isCharSupported(c) ? bitmapFont.getCharInfo(c).width() : 0;
+        advances[c] = advance;
+        return advance;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (prefix.length < capacity) {
+            prefix = Arrays.copyOf(prefix, Math.max(capacity, prefix.length * 2));
+        }
+    }
+}
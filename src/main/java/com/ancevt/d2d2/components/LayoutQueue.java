@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.scene.Group;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects components whose layout was invalidated and validates them once per frame, on the
+ * stage tick before rendering. Parents are validated before their children, so a child resized
+ * by its parent's layout is laid out in the same pass, only once. Components invalidated while
+ * the queue is being drained are picked up in a further round of the same pass.
+ * <p>
+ * {@link #flush()} validates everything synchronously; with {@link #setImmediate(boolean)} on,
+ * nothing is deferred and every invalidation is validated on the spot.
+ */
+@Slf4j
+public class LayoutQueue {
+
+    private static final int MAX_ROUNDS = 16;
+
+    private static final Comparator<Component> BY_DEPTH = Comparator.comparingInt(c -> c.layoutDepth);
+
+    private static LayoutQueue instance;
+
+    public static LayoutQueue getInstance() {
+        return instance == null ? instance = new LayoutQueue() : instance;
+    }
+
+    private final List<Component> queue;
+    private final List<Component> round;
+    private boolean overflowReported;
+
+    @Getter
+    @Setter
+    private boolean immediate;
+
+    private LayoutQueue() {
+        queue = new ArrayList<>();
+        round = new ArrayList<>();
+
+        D2D2.getStage().onTick(e -> flush());
+    }
+
+    void add(Component component) {
+        queue.add(component);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public void flush() {
+        for (int i = 0; i < MAX_ROUNDS && !queue.isEmpty(); i++) {
+            round.addAll(queue);
+            queue.clear();
+
+            if (round.size() > 1) {
+                for (int j = 0; j < round.size(); j++) {
+                    Component component = round.get(j);
+                    component.layoutDepth = depth(component);
+                }
+                round.sort(BY_DEPTH);
+            }
+
+            for (int j = 0; j < round.size(); j++) {
+                round.get(j).validateLayout();
+            }
+            round.clear();
+        }
+
+        if (!queue.isEmpty() && !overflowReported) {
+            overflowReported = true;
+            log.warn("{} components still invalid after {} layout rounds, deferring them to the next pass; " +
+                    "a layout probably keeps invalidating itself", queue.size(), MAX_ROUNDS);
+        }
+    }
+
+    private static int depth(Component component) {
+        int depth = 0;
+        Group group = component.getParent();
+        while (group != null) {
+            depth++;
+            group = group.getParent();
+        }
+        return depth;
+    }
+}
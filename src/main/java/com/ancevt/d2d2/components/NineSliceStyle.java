@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.scene.interactive.Combined9Sprites;
+import com.ancevt.d2d2.scene.texture.TextureRegion;
+import lombok.Getter;
+
+/**
+ * Immutable set of the nine texture regions of a 9-slice skin, resolved once and shared by all
+ * components using it. Insets are the sizes of the corner regions.
+ */
+@Getter
+public final class NineSliceStyle {
+
+    private final TextureRegion topLeft;
+    private final TextureRegion top;
+    private final TextureRegion topRight;
+    private final TextureRegion left;
+    private final TextureRegion center;
+    private final TextureRegion right;
+    private final TextureRegion bottomLeft;
+    private final TextureRegion bottom;
+    private final TextureRegion bottomRight;
+
+    private final float insetLeft;
+    private final float insetTop;
+    private final float insetRight;
+    private final float insetBottom;
+
+    public NineSliceStyle(TextureRegion topLeft, TextureRegion top, TextureRegion topRight,
+                          TextureRegion left, TextureRegion center, TextureRegion right,
+                          TextureRegion bottomLeft, TextureRegion bottom, TextureRegion bottomRight) {
+        this.topLeft = topLeft;
+        this.top = top;
+        this.topRight = topRight;
+        this.left = left;
+        this.center = center;
+        this.right = right;
+        this.bottomLeft = bottomLeft;
+        this.bottom = bottom;
+        this.bottomRight = bottomRight;
+
+        insetLeft = topLeft.getWidth();
+        insetTop = topLeft.getHeight();
+        insetRight = bottomRight.getWidth();
+        insetBottom = bottomRight.getHeight();
+    }
+
+    /**
+     * Looks the regions up in the texture manager, in the same top-left to bottom-right order as
+     * {@link Combined9Sprites} takes them.
+     */
+    public static NineSliceStyle resolve(String... textureKeys) {
+        if (textureKeys.length != 9) {
+            throw new IllegalArgumentException("Expected 9 texture keys, got " + textureKeys.length);
+        }
+
+        TextureRegion[] regions = new TextureRegion[9];
+        for (int i = 0; i < 9; i++) {
+            regions[i] = D2D2.getTextureManager().getTextureRegion(textureKeys[i]);
+        }
+
+        return new NineSliceStyle(
+                regions[0], regions[1], regions[2],
+                regions[3], regions[4], regions[5],
+                regions[6], regions[7], regions[8]
+        );
+    }
+
+    public Combined9Sprites createSprites() {
+        return new Combined9Sprites(topLeft, top, topRight, left, center, right, bottomLeft, bottom, bottomRight);
+    }
+}
@@ -41,7 +41,7 @@ public class Padding {
         this.top = top;
         this.right = right;
         this.bottom = bottom;
-        if(component != null) component.update();
+        if(component != null) component.paddingChanged();
     }
 
     public float getLeft() {
@@ -50,7 +50,7 @@ public class Padding {
 
     public void setLeft(float left) {
         this.left = left;
-        if(component != null) component.update();
+        if(component != null) component.paddingChanged();
     }
 
     public float getTop() {
@@ -59,7 +59,7 @@ public class Padding {
 
     public void setTop(float top) {
         this.top = top;
-        if(component != null) component.update();
+        if(component != null) component.paddingChanged();
     }
 
     public float getRight() {
@@ -68,7 +68,7 @@ public class Padding {
 
     public void setRight(float right) {
         this.right = right;
-        if(component != null) component.update();
+        if(component != null) component.paddingChanged();
     }
 
     public float getBottom() {
@@ -77,7 +77,7 @@ public class Padding {
 
     public void setBottom(float bottom) {
         this.bottom = bottom;
-        if(component != null) component.update();
+        if(component != null) component.paddingChanged();
     }
 
     @Override
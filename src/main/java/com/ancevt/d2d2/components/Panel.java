@@ -19,9 +19,10 @@
 package com.ancevt.d2d2.components;
 
 import com.ancevt.d2d2.event.CommonEvent;
-import com.ancevt.d2d2.scene.Color;
 import com.ancevt.d2d2.scene.shape.RectangleShape;
 
+import java.util.Set;
+
 public class Panel extends Component {
 
     private final float DEFAULT_WIDTH = 200.0f;
@@ -32,8 +33,8 @@ public class Panel extends Component {
     public Panel() {
         setTabbingEnabled(false);
 
-        bg = new RectangleShape(1, 1, Color.BLACK);
-        bg.setAlpha(Component.PANEL_BG_ALPHA);
+        bg = new RectangleShape(1, 1, resolve(ThemeToken.BACKGROUND_COLOR));
+        bg.setAlpha(resolve(ThemeToken.PANEL_BG_ALPHA));
         addChild(bg);
 
         addEventListener(Panel.class, CommonEvent.Resize.class, this::this_resize);
@@ -45,4 +46,10 @@ public class Panel extends Component {
         bg.setSize(getWidth(), getHeight());
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) bg.setColor(resolve(ThemeToken.BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.PANEL_BG_ALPHA, changed)) bg.setAlpha(resolve(ThemeToken.PANEL_BG_ALPHA));
+    }
+
 }
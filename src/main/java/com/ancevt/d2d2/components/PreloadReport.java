@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup timings: render-thread load time per asset, resources that were not found on the
+ * classpath, the number of frames the preload was spread over and its total wall time.
+ */
+public record PreloadReport(Map<String, Long> loadNanos,
+                            List<String> missingResources,
+                            int frames,
+                            long totalNanos) {
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        loadNanos.forEach((name, nanos) -> sb.append("load ").append(name).append(": ").append(toMillis(nanos)).append(" ms\n"));
+        missingResources.forEach(resource -> sb.append("missing ").append(resource).append('\n'));
+        sb.append("total: ").append(toMillis(totalNanos)).append(" ms over ").append(frames).append(" frames");
+        return sb.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
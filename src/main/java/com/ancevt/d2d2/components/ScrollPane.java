@@ -25,6 +25,7 @@ import com.ancevt.d2d2.scene.shape.RectangleShape;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class ScrollPane extends Component {
 
@@ -37,6 +38,10 @@ public class ScrollPane extends Component {
     private final RectangleShape bg;
     private final Scrollbar scrollbar;
     private final List<Component> components;
+    private final List<Component> displayedComponents;
+    private final List<Component> rowPool;
+
+    private ItemModel itemModel;
 
     private int scrollPosition;
     private int scrollStep;
@@ -44,13 +49,15 @@ public class ScrollPane extends Component {
     private float itemHeight;
 
     public ScrollPane() {
-        bg = new RectangleShape(1, 1, BACKGROUND_COLOR);
-        bg.setAlpha(PANEL_BG_ALPHA);
+        bg = new RectangleShape(1, 1, resolve(ThemeToken.BACKGROUND_COLOR));
+        bg.setAlpha(resolve(ThemeToken.PANEL_BG_ALPHA));
         addChild(bg);
 
         scrollStep = DEFAULT_SCROLL_STEP;
 
         components = new ArrayList<>();
+        displayedComponents = new ArrayList<>();
+        rowPool = new ArrayList<>();
 
         scrollbar = new Scrollbar();
         scrollbar.addEventListener(ScrollPane.class, CommonEvent.Change.class, this::scrollbar_change);
@@ -74,8 +81,14 @@ public class ScrollPane extends Component {
         rebuild();
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) bg.setColor(resolve(ThemeToken.BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.PANEL_BG_ALPHA, changed)) bg.setAlpha(resolve(ThemeToken.PANEL_BG_ALPHA));
+    }
+
     private void scrollbar_change(CommonEvent.Change event) {
-        int position = (int) ((components.size() - getHeight() / itemHeight) * scrollbar.getScrollValue());
+        int position = (int) ((getItemCount() - getHeight() / itemHeight) * scrollbar.getScrollValue());
         setScrollPositionInternal(position);
         rebuild();
     }
@@ -87,7 +100,7 @@ public class ScrollPane extends Component {
             this.scrollPosition = 0;
         }
 
-        int max = (int) (components.size() - getHeight() / itemHeight);
+        int max = (int) (getItemCount() - getHeight() / itemHeight);
         if (this.scrollPosition >= max) {
             this.scrollPosition = max;
         }
@@ -99,6 +112,7 @@ public class ScrollPane extends Component {
 
     public void clear() {
         components.clear();
+        rowPool.clear();
         rebuild();
     }
 
@@ -122,7 +136,7 @@ public class ScrollPane extends Component {
         setScrollPosition(getScrollPosition() + step);
 
         float pos = scrollPosition;
-        float count = components.size();
+        float count = getItemCount();
 
         float value = pos / (count - getHeight() / itemHeight);
 
@@ -138,7 +152,25 @@ public class ScrollPane extends Component {
         return itemHeight;
     }
 
+    public void setItemModel(ItemModel itemModel) {
+        this.itemModel = itemModel;
+        rowPool.clear();
+        setScrollPositionInternal(0);
+        scrollbar.setScrollValue(0.0f);
+        rebuild();
+    }
+
+    public ItemModel getItemModel() {
+        return itemModel;
+    }
+
+    public void itemModelChanged() {
+        setScrollPositionInternal(scrollPosition);
+        rebuild();
+    }
+
     public void addScrollableItem(Component component) {
+        checkNotVirtualized();
         components.add(component);
         component.removeEventListener(ScrollPane.class, NodeEvent.Remove.class);
         component.addEventListener(ScrollPane.class, NodeEvent.Remove.class, event -> focus());
@@ -148,12 +180,14 @@ public class ScrollPane extends Component {
     }
 
     public void removeScrollableItem(Component component) {
+        checkNotVirtualized();
         components.remove(component);
         setScrollPosition(0);
         rebuild();
     }
 
     public void removeScrollableItem(int index) {
+        checkNotVirtualized();
         components.remove(index).removeFromParent();
         setScrollPosition(0);
         rebuild();
@@ -164,17 +198,27 @@ public class ScrollPane extends Component {
     }
 
     public int getScrollableItemCount() {
-        return components.size();
+        return getItemCount();
     }
 
     public float getTotalScrollableHeight() {
-        return components.size() * itemHeight;
+        return getItemCount() * itemHeight;
+    }
+
+    private int getItemCount() {
+        return itemModel != null ? itemModel.getItemCount() : components.size();
+    }
+
+    private void checkNotVirtualized() {
+        if (itemModel != null) {
+            throw new IllegalStateException("Scroll pane is backed by an item model");
+        }
     }
 
     public void setScrollPosition(int scrollPosition) {
         setScrollPositionInternal(scrollPosition);
 
-        scrollbar.setScrollValue((float) this.scrollPosition / (float) components.size());
+        scrollbar.setScrollValue((float) this.scrollPosition / (float) getItemCount());
 
         rebuild();
     }
@@ -189,18 +233,24 @@ public class ScrollPane extends Component {
     }
 
     private void rebuild() {
-        components.forEach(Component::removeFromParent);
+        displayedComponents.forEach(Component::removeFromParent);
+        displayedComponents.clear();
+
+        float itemWidth = getWidth() - getPadding().getRight() - getPadding().getLeft();
+        float itemContentHeight = getItemHeight() - getPadding().getBottom() - getPadding().getTop();
 
         float y = 0.0f;
-        for (int i = scrollPosition; y < getHeight() - itemHeight && i < components.size(); i++) {
+        int count = getItemCount();
+        int row = 0;
+        for (int i = scrollPosition; y < getHeight() - itemHeight && i < count; i++) {
             if (i < 0) continue;
-            Component item = components.get(i);
+            Component item = itemModel != null ? bindRow(row++, i) : components.get(i);
             addChild(item, 0, y);
             item.move(getPadding().getLeft(), getPadding().getTop());
-            item.setSize(
-                    getWidth() - getPadding().getRight() - getPadding().getLeft(),
-                    getItemHeight() - getPadding().getBottom() - getPadding().getTop()
-            );
+            if (item.getWidth() != itemWidth || item.getHeight() != itemContentHeight) {
+                item.setSize(itemWidth, itemContentHeight);
+            }
+            displayedComponents.add(item);
             y += itemHeight;
         }
 
@@ -213,4 +263,27 @@ public class ScrollPane extends Component {
 
         scrollbar.setRectLength(getHeight() * val);
     }
+
+    private Component bindRow(int row, int index) {
+        while (rowPool.size() <= row) {
+            rowPool.add(itemModel.createRow());
+        }
+        Component rowComponent = rowPool.get(row);
+        itemModel.bindRow(rowComponent, index);
+        return rowComponent;
+    }
+
+    /**
+     * Data source for the virtualized mode. Only as many rows as fit into the viewport are
+     * created with {@link #createRow()}; they are recycled and rebound to the item at
+     * {@code index} on every scroll step.
+     */
+    public interface ItemModel {
+
+        int getItemCount();
+
+        Component createRow();
+
+        void bindRow(Component row, int index);
+    }
 }
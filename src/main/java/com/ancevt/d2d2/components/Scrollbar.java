@@ -60,7 +60,7 @@ public class Scrollbar extends Component {
         setAlpha(MIN_ALPHA);
         setSize(DEFAULT_WIDTH, DEFAULT_HEIGHT);
 
-        stage.onPostFrame(e -> postFrame());
+        ComponentScheduler.getInstance().subscribe(this, this::postFrame);
     }
 
     private void this_wheel(InputEvent.MouseWheel event) {
@@ -128,6 +128,7 @@ public class Scrollbar extends Component {
 
     @Override
     public void dispose() {
+        ComponentScheduler.getInstance().unsubscribe(this);
         rect.dispose();
         super.dispose();
     }
@@ -20,19 +20,22 @@ package com.ancevt.d2d2.components;
 
 import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.scene.Sprite;
+import com.ancevt.d2d2.scene.texture.Texture;
 import com.ancevt.d2d2.scene.texture.TextureRegion;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 import static com.ancevt.d2d2.D2D2.getEngine;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SpriteFactory {
-    private static final Map<String, TextureRegion> textureCacheFiles = new HashMap<>();
+    private static final int DEFAULT_CACHE_MAX_SIZE = 1024;
+
+    private static final Map<String, Texture> textures = new HashMap<>();
+    private static final TextureRegionCache textureRegionCache = new TextureRegionCache(DEFAULT_CACHE_MAX_SIZE);
 
     public static Sprite createSprite(String assetPath) {
         return getEngine().getNodeFactory().createSprite(assetPath);
@@ -40,19 +43,10 @@ public class SpriteFactory {
 
     public static Sprite createSprite(String assetPath, int textureX, int textureY, int textureWidth, int textureHeight) {
         return getEngine().getNodeFactory().createSprite(
-                textureCacheFiles.computeIfAbsent(
-                        "%s_%d".formatted(
-                                assetPath,
-                                Objects.hash(
-                                        assetPath,
-                                        textureX,
-                                        textureY,
-                                        textureWidth,
-                                        textureHeight
-                                )),
-                        key -> D2D2.getTextureManager()
-                                .loadTexture(assetPath)
-                                .createTextureRegion(textureX, textureY, textureWidth, textureHeight)
+                textureRegionCache.get(
+                        new TextureRegionCache.Key(assetPath, textureX, textureY, textureWidth, textureHeight),
+                        key -> getTexture(key.assetPath())
+                                .createTextureRegion(key.x(), key.y(), key.width(), key.height())
                 )
         );
     }
@@ -66,8 +60,23 @@ public class SpriteFactory {
         return getEngine().getNodeFactory().createSprite();
     }
 
+    /**
+     * Drops the cached region views; loaded textures are kept, so they are not loaded twice.
+     */
     public static void clearCache() {
-        textureCacheFiles.clear();
+        textureRegionCache.clear();
+    }
+
+    public static int getLoadedTextureCount() {
+        return textures.size();
+    }
+
+    private static Texture getTexture(String assetPath) {
+        return textures.computeIfAbsent(assetPath, path -> D2D2.getTextureManager().loadTexture(path));
+    }
+
+    public static TextureRegionCache getTextureRegionCache() {
+        return textureRegionCache;
     }
 
 }
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+/**
+ * Mutable gap buffer used as the text model of {@link TextInput}. Edits at or near the previous
+ * edit position only move a few characters, so typing and deleting are amortised O(1). The string
+ * form is cached until the next modification.
+ */
+public class TextBuffer implements CharSequence {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private char[] chars;
+    private int gapStart;
+    private int gapEnd;
+    private String cachedString;
+
+    public TextBuffer(int initialCapacity) {
+        chars = new char[Math.max(initialCapacity, 1)];
+        gapStart = 0;
+        gapEnd = chars.length;
+        cachedString = "";
+    }
+
+    public TextBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int length() {
+        return chars.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length());
+        }
+        return index < gapStart ? chars[index] : chars[index + gapEnd - gapStart];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    public void insert(int index, CharSequence text) {
+        checkIndex(index);
+        int length = text.length();
+        if (length == 0) return;
+
+        moveGap(index);
+        ensureGap(length);
+        for (int i = 0; i < length; i++) {
+            chars[gapStart++] = text.charAt(i);
+        }
+        cachedString = null;
+    }
+
+    public void delete(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        if (from >= to) return;
+
+        moveGap(to);
+        gapStart = from;
+        cachedString = null;
+    }
+
+    public void set(CharSequence text) {
+        gapStart = 0;
+        gapEnd = chars.length;
+        insert(0, text);
+        cachedString = text.toString();
+    }
+
+    public void clear() {
+        gapStart = 0;
+        gapEnd = chars.length;
+        cachedString = "";
+    }
+
+    @Override
+    public String toString() {
+        if (cachedString == null) {
+            StringBuilder sb = new StringBuilder(length());
+            sb.append(chars, 0, gapStart);
+            sb.append(chars, gapEnd, chars.length - gapEnd);
+            cachedString = sb.toString();
+        }
+        return cachedString;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length());
+        }
+    }
+
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(chars, index, chars, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(chars, gapEnd, chars, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void ensureGap(int size) {
+        if (gapEnd - gapStart >= size) return;
+
+        int length = length();
+        int capacity = Math.max(chars.length * 2, length + size);
+        char[] newChars = new char[capacity];
+        int tailLength = chars.length - gapEnd;
+        System.arraycopy(chars, 0, newChars, 0, gapStart);
+        System.arraycopy(chars, gapEnd, newChars, capacity - tailLength, tailLength);
+        gapEnd = capacity - tailLength;
+        chars = newChars;
+    }
+}
@@ -28,36 +28,43 @@ import com.ancevt.d2d2.scene.shape.RectangleShape;
 import com.ancevt.d2d2.scene.text.BitmapFont;
 import com.ancevt.d2d2.scene.text.BitmapText;
 
+import java.util.Set;
+
 public class TextInput extends Component {
 
     private static final int DEFAULT_WIDTH = 200;
     private static final int DEFAULT_HEIGHT = 30;
 
 
-    private Color colorBackground = Component.BACKGROUND_COLOR;
-    private Color colorSelection = Color.DARK_GRAY;
-    private Color colorFocusRect = Color.of(0x515256);
-    private float backgroundAlpha = Component.PANEL_BG_ALPHA;
+    private Color colorBackground = resolve(ThemeToken.BACKGROUND_COLOR);
+    private Color colorSelection = resolve(ThemeToken.INPUT_SELECTION_COLOR);
+    private Color colorFocusRect = resolve(ThemeToken.INPUT_FOCUS_RECT_COLOR);
+    private float backgroundAlpha = resolve(ThemeToken.PANEL_BG_ALPHA);
 
     private final RectangleShape bg;
     private final RectangleShape selection;
     private final BitmapText bitmapText;
-    private final Combined9Sprites focusRect;
+    private Combined9Sprites focusRect;
     private final Caret caret;
     private boolean selecting;
     private int selectionFromIndex;
     private int selectionToIndex;
     private int selectionStartIndex;
-    private String textString;
+    private final TextBuffer text;
+    private final GlyphAdvanceTable advances;
+    private int caretIndex;
 
     private Padding padding = new Padding(10, 0, 10, 0);
 
     public TextInput() {
+        text = new TextBuffer();
+
         bg = new RectangleShape(DEFAULT_WIDTH, DEFAULT_HEIGHT, colorBackground);
         selection = new RectangleShape(0, DEFAULT_HEIGHT - 8, colorSelection);
         bitmapText = new BitmapText();
         bitmapText.setAutoSize(true);
         bitmapText.setBitmapFont(ComponentFont.getFontMiddle());
+        advances = new GlyphAdvanceTable(bitmapText.getBitmapFont());
 
         bg.setAlpha(backgroundAlpha);
 
@@ -68,20 +75,6 @@ public class TextInput extends Component {
         caret = new Caret(this);
         caret.setPosition(bitmapText.getX(), 4);
 
-        focusRect = new Combined9Sprites(new String[]{
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP,
-                ComponentAssets.RECT_BORDER_9_SIDE_TOP_RIGHT,
-                ComponentAssets.RECT_BORDER_9_SIDE_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_CENTER,
-                ComponentAssets.RECT_BORDER_9_SIDE_RIGHT,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_LEFT,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM,
-                ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_RIGHT
-        });
-        focusRect.setColor(colorFocusRect);
-        focusRect.setVisible(false);
-
         setText("");
 
         addEventListener(TextInput.class, InputEvent.MouseDown.class, this::this_down);
@@ -101,6 +94,9 @@ public class TextInput extends Component {
 
     public void setBitmapFont(BitmapFont bitmapFont) {
         bitmapText.setBitmapFont(bitmapFont);
+        advances.setBitmapFont(bitmapFont, text);
+        setCaretPosition(caretIndex);
+        redrawSelection();
     }
 
     public BitmapFont getBitmapFont() {
@@ -131,25 +127,44 @@ public class TextInput extends Component {
         caret.setY((getHeight() - caret.getHeight()) / 2);
         bitmapText.setPosition(padding.getLeft(), (getHeight() - bitmapText.getCharHeight()) / 2 + 2);
         bitmapText.setWidth(getWidth() - padding.getLeft() - padding.getRight());
-        focusRect.setSize(getWidth(), getHeight());
+        if (focusRect != null) focusRect.setSize(getWidth(), getHeight());
     }
 
     public void setFocusRectVisibleEnabled(boolean focusRectEnabled) {
         if (focusRectEnabled) {
-            addChild(focusRect);
-        } else {
+            addChild(getFocusRect());
+        } else if (focusRect != null) {
             focusRect.removeFromParent();
         }
     }
 
+    /**
+     * The focus rect is created when it is first enabled, so inputs that never show it do not
+     * carry its nine sprites.
+     */
+    private Combined9Sprites getFocusRect() {
+        if (focusRect == null) {
+            focusRect = ComponentAssets.getRectBorderStyle().createSprites();
+            focusRect.setColor(colorFocusRect);
+            focusRect.setVisible(caret.hasParent());
+            focusRect.setSize(getWidth(), getHeight());
+        }
+        return focusRect;
+    }
+
     @Override
     public boolean isComponentFocusRectVisibleEnabled() {
-        return focusRect.hasParent();
+        return focusRect != null && focusRect.hasParent();
     }
 
     public void setColorFocusRect(Color colorFocusRect) {
+        markCustomized(ThemeToken.INPUT_FOCUS_RECT_COLOR);
+        applyColorFocusRect(colorFocusRect);
+    }
+
+    private void applyColorFocusRect(Color colorFocusRect) {
         this.colorFocusRect = colorFocusRect;
-        focusRect.setColor(colorFocusRect);
+        if (focusRect != null) focusRect.setColor(colorFocusRect);
     }
 
     public Color getColorFocusRect() {
@@ -161,6 +176,11 @@ public class TextInput extends Component {
     }
 
     public void setColorBackground(Color colorBackground) {
+        markCustomized(ThemeToken.BACKGROUND_COLOR);
+        applyColorBackground(colorBackground);
+    }
+
+    private void applyColorBackground(Color colorBackground) {
         this.colorBackground = colorBackground;
         bg.setColor(colorBackground);
     }
@@ -170,6 +190,11 @@ public class TextInput extends Component {
     }
 
     public void setColorSelection(Color colorSelection) {
+        markCustomized(ThemeToken.INPUT_SELECTION_COLOR);
+        applyColorSelection(colorSelection);
+    }
+
+    private void applyColorSelection(Color colorSelection) {
         this.colorSelection = colorSelection;
         selection.setColor(colorSelection);
     }
@@ -178,7 +203,7 @@ public class TextInput extends Component {
         String keyType = e.getKeyType();
         if (!bitmapText.getBitmapFont().isCharSupported(keyType.charAt(0))) return;
 
-        if (textString.length() * bitmapText.getCharWidth() < getWidth() - 10) {
+        if (advances.getWidth() < getWidth() - 10) {
             insertText(keyType);
         }
     }
@@ -218,13 +243,14 @@ public class TextInput extends Component {
             }
             case KeyCode.DELETE -> {
                 int index = getCaretPosition();
-                if (index < textString.length()) {
-                    setText(textString.substring(0, index) + textString.substring(index + 1));
+                if (index < text.length()) {
+                    deleteChars(index, index + 1);
+                    textChanged();
                 }
             }
             case KeyCode.HOME -> setCaretPosition(0);
 
-            case KeyCode.END -> setCaretPosition(textString.length());
+            case KeyCode.END -> setCaretPosition(text.length());
 
             case KeyCode.ENTER,
                  KeyCode.RIGHT_ENTER -> {
@@ -261,7 +287,7 @@ public class TextInput extends Component {
         if (enabled == isInteractionEnabled()) return;
 
         super.setInteractionEnabled(enabled);
-        bitmapText.setColor(enabled ? Component.TEXT_COLOR : Component.TEXT_COLOR_DISABLED);
+        bitmapText.setColor(resolve(enabled ? ThemeToken.TEXT_COLOR : ThemeToken.TEXT_COLOR_DISABLED));
     }
 
     public void setBackgroundColor(Color backgroundColor) {
@@ -273,26 +299,26 @@ public class TextInput extends Component {
     }
 
     private void this_focusIn(InputEvent.FocusIn event) {
-        focusRect.setVisible(true);
+        if (focusRect != null) focusRect.setVisible(true);
         setCaretPosition(Integer.MAX_VALUE);
         dispatchEvent(ComponentEvent.FocusIn.create());
         focus();
     }
 
     private void this_focusOut(InputEvent.FocusOut event) {
-        focusRect.setVisible(false);
+        if (focusRect != null) focusRect.setVisible(false);
         caret.removeFromParent();
         dispatchEvent(ComponentEvent.FocusOut.create());
     }
 
     private void this_down(InputEvent.MouseDown e) {
         float x = e.getX() - padding.getLeft();
-        float c = bitmapText.getCharWidth();
         float s = bitmapText.getGlobalScaleX();
-        setCaretPosition((int) ((x / c) / s));
+        setCaretPosition(advances.getIndexAt(x / s));
     }
 
     public void setTextColor(Color textColor) {
+        markCustomized(ThemeToken.TEXT_COLOR);
         bitmapText.setColor(textColor);
     }
 
@@ -321,32 +347,42 @@ public class TextInput extends Component {
     }
 
     private void redrawSelection() {
-        selection.setX(bitmapText.getX() + selectionFromIndex * bitmapText.getCharWidth());
-        selection.setWidth((selectionToIndex - selectionFromIndex) * bitmapText.getCharWidth());
+        selection.setX(bitmapText.getX() + advances.getX(selectionFromIndex));
+        selection.setWidth(advances.getX(selectionToIndex) - advances.getX(selectionFromIndex));
     }
 
     public void setText(String textString) {
-        this.textString = textString;
-        this.bitmapText.setText(textString);
+        text.set(textString);
+        advances.set(text);
+        textChanged();
+    }
+
+    /**
+     * Pushes the current content of the text buffer to the display and dispatches a single
+     * {@link TextInputEvent.TextChange}. Every user action calls it once, after all its edits.
+     */
+    private void textChanged() {
+        String textString = text.toString();
+        bitmapText.setText(textString);
         if (getCaretPosition() > textString.length()) {
             setCaretPosition(Integer.MAX_VALUE);
         }
 
-        dispatchEvent(TextInputEvent.TextChange.create(getText()));
+        dispatchEvent(TextInputEvent.TextChange.create(textString));
     }
 
     public String getText() {
-        return textString;
+        return text.toString();
     }
 
     public void setCaretPosition(int index) {
-        index = fixIndex(index);
-        caret.setX(padding.getLeft() + (index * bitmapText.getCharWidth()) - 1);
+        caretIndex = fixIndex(index);
+        caret.setX(padding.getLeft() + advances.getX(caretIndex) - 1);
         caret.setAlpha(1f);
     }
 
     private int fixIndex(int index) {
-        int len = textString.length();
+        int len = text.length();
 
         if (index > len) {
             index = len;
@@ -357,7 +393,7 @@ public class TextInput extends Component {
     }
 
     public int getCaretPosition() {
-        return (int) ((caret.getX() - padding.getLeft() + 1) / bitmapText.getCharWidth());
+        return caretIndex;
     }
 
     @Override
@@ -391,6 +427,7 @@ public class TextInput extends Component {
     @Override
     public void dispose() {
         super.dispose();
+        ComponentScheduler.getInstance().unsubscribe(caret);
         removeEventListener(TextInput.class, InputEvent.MouseDown.class);
         removeEventListener(TextInput.class, InputEvent.FocusIn.class);
         removeEventListener(TextInput.class, InputEvent.FocusOut.class);
@@ -410,41 +447,63 @@ public class TextInput extends Component {
         addChild(caret);
     }
 
-    private void insertText(String textToInsert) {
-        if (textToInsert.isEmpty()) {
-            setText(textToInsert);
-        }
-        int index = getCaretPosition();
-        setText(textString.substring(0, index) + textToInsert + textString.substring(index));
-        setCaretPosition(getCaretPosition() + textToInsert.length());
+    /**
+     * Inserts text at the caret as typing does, dropping what no longer fits the width.
+     */
+    public void insertText(String textToInsert) {
+        if (textToInsert.isEmpty()) return;
 
-        while (textString.length() * bitmapText.getCharWidth() > getWidth() - padding.getLeft() - padding.getRight()) {
-            removeChar();
+        int index = getCaretPosition();
+        insertChars(index, textToInsert);
+        index += textToInsert.length();
+
+        float overflow = advances.getWidth() - (getWidth() - padding.getLeft() - padding.getRight());
+        if (overflow > 0) {
+            int from = index;
+            while (from > 0 && advances.getWidth(from, index) < overflow) {
+                from--;
+            }
+            deleteChars(from, index);
+            index = from;
         }
+
+        textChanged();
+        setCaretPosition(index);
     }
 
     private void removeChar() {
         int index = getCaretPosition();
         if (index > 0) {
-            String newText = textString.substring(0, index - 1) + textString.substring(index);
-            setCaretPosition(getCaretPosition() - 1);
-            setText(newText);
+            deleteChars(index - 1, index);
+            setCaretPosition(index - 1);
+            textChanged();
         }
     }
 
     private void removeWord() {
-        if (getCaretPosition() == 0) return;
+        int index = getCaretPosition();
+        if (index == 0) return;
 
-        if (getCharUnderCaret() == ' ') {
-            removeChar();
-        } else
-            while (getCaretPosition() > 0 && getCharUnderCaret() != ' ') {
-                removeChar();
+        int from = index - 1;
+        if (text.charAt(from) != ' ') {
+            while (from > 0 && text.charAt(from - 1) != ' ') {
+                from--;
             }
+        }
+
+        deleteChars(from, index);
+        setCaretPosition(from);
+        textChanged();
     }
 
-    private char getCharUnderCaret() {
-        return textString.charAt(getCaretPosition() - 1);
+    private void insertChars(int index, CharSequence chars) {
+        text.insert(index, chars);
+        advances.insert(index, chars);
+    }
+
+    private void deleteChars(int from, int to) {
+        text.delete(from, to);
+        advances.delete(from, to);
     }
 
     public void clear() {
@@ -455,6 +514,20 @@ public class TextInput extends Component {
         setCaretPosition(Integer.MAX_VALUE);
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) applyColorBackground(resolve(ThemeToken.BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.INPUT_SELECTION_COLOR, changed)) applyColorSelection(resolve(ThemeToken.INPUT_SELECTION_COLOR));
+        if (isThemeChanged(ThemeToken.INPUT_FOCUS_RECT_COLOR, changed)) applyColorFocusRect(resolve(ThemeToken.INPUT_FOCUS_RECT_COLOR));
+        if (isThemeChanged(ThemeToken.PANEL_BG_ALPHA, changed)) {
+            backgroundAlpha = resolve(ThemeToken.PANEL_BG_ALPHA);
+            bg.setAlpha(backgroundAlpha);
+        }
+        if (isThemeChanged(ThemeToken.TEXT_COLOR, changed) || isThemeChanged(ThemeToken.TEXT_COLOR_DISABLED, changed)) {
+            bitmapText.setColor(resolve(isInteractionEnabled() ? ThemeToken.TEXT_COLOR : ThemeToken.TEXT_COLOR_DISABLED));
+        }
+    }
+
     @Override
     public void update() {
 
@@ -471,7 +544,7 @@ public class TextInput extends Component {
             super(1, DEFAULT_HEIGHT - 8, Color.WHITE);
             this.uiTextInput = uiTextInput;
 
-            stage.onTick(e -> tick());
+            ComponentScheduler.getInstance().subscribe(this, this::tick);
         }
 
         public void tick() {
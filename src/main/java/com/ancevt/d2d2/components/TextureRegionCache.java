@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.scene.texture.TextureRegion;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * LRU cache of texture region views, bounded by entry count. Evicting an entry only drops the
+ * region view; the textures the regions point into are cached by {@link SpriteFactory} and stay
+ * loaded, so a miss after an eviction never loads a texture again.
+ */
+public class TextureRegionCache {
+
+    public record Key(String assetPath, int x, int y, int width, int height) {
+    }
+
+    private final LinkedHashMap<Key, TextureRegion> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    @Getter
+    private int maxSize;
+    @Getter
+    private long hits;
+    @Getter
+    private long misses;
+    @Getter
+    private long evictions;
+
+    @Getter
+    @Setter
+    private BiConsumer<Key, TextureRegion> evictionListener;
+
+    public TextureRegionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public TextureRegion get(Key key, Function<Key, TextureRegion> loader) {
+        TextureRegion textureRegion = entries.get(key);
+        if (textureRegion != null) {
+            hits++;
+            return textureRegion;
+        }
+
+        misses++;
+        textureRegion = loader.apply(key);
+        entries.put(key, textureRegion);
+        trim();
+        return textureRegion;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        trim();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops every entry, passing each one to the eviction listener. Cleared entries are not counted
+     * as evictions.
+     */
+    public void clear() {
+        Iterator<Map.Entry<Key, TextureRegion>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, TextureRegion> entry = iterator.next();
+            iterator.remove();
+            if (evictionListener != null) {
+                evictionListener.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public void resetStats() {
+        hits = misses = evictions = 0;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<Key, TextureRegion>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<Key, TextureRegion> eldest = iterator.next();
+            iterator.remove();
+            evictions++;
+            if (evictionListener != null) {
+                evictionListener.accept(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        long requests = hits + misses;
+        return "Texture region cache: " + entries.size() + "/" + maxSize + " regions\n" +
+                "hits: " + hits + ", misses: " + misses + ", evictions: " + evictions +
+                (requests > 0 ? ", hit rate: " + (hits * 100 / requests) + "%" : "") + "\n";
+    }
+}
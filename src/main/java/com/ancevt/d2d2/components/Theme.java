@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.scene.Group;
+import com.ancevt.d2d2.scene.Node;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable set of values for {@link ThemeToken}s. Components resolve the tokens they use when
+ * they are created and keep the values. {@link #setCurrent(Theme)} computes which tokens changed
+ * once and walks the stage a single time, so each component only reapplies the changed tokens
+ * it uses and has not overridden through its own setters. Components that were off the scene
+ * catch up when they are added back.
+ */
+public final class Theme {
+
+    public static final Theme DEFAULT = new Theme(Map.of());
+
+    private static Theme current = DEFAULT;
+    private static int version;
+
+    private final Map<ThemeToken<?>, Object> values;
+
+    private Theme(Map<ThemeToken<?>, Object> values) {
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ThemeToken<T> token) {
+        Object value = values.get(token);
+        return value != null ? (T) value : token.getDefaultValue();
+    }
+
+    public <T> Theme with(ThemeToken<T> token, T value) {
+        Map<ThemeToken<?>, Object> newValues = new HashMap<>(values);
+        newValues.put(token, value);
+        return new Theme(newValues);
+    }
+
+    public static Theme getCurrent() {
+        return current;
+    }
+
+    public static int getVersion() {
+        return version;
+    }
+
+    public static void setCurrent(Theme theme) {
+        if (theme == current) return;
+
+        Set<ThemeToken<?>> changed = new HashSet<>();
+        for (ThemeToken<?> token : ThemeToken.values()) {
+            if (!Objects.equals(current.get(token), theme.get(token))) {
+                changed.add(token);
+            }
+        }
+
+        current = theme;
+        version++;
+
+        if (!changed.isEmpty()) {
+            broadcast(D2D2.getStage(), changed);
+        }
+    }
+
+    private static void broadcast(Node node, Set<ThemeToken<?>> changed) {
+        if (node instanceof Component component) {
+            component.applyThemeChange(changed);
+        }
+
+        if (node instanceof Group group) {
+            int num = group.getNumChildren();
+            for (int i = 0; i < num; i++) {
+                broadcast(group.getChild(i), changed);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.scene.Color;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Key of a themable value. The default value is used by themes that do not set the token.
+ */
+@Getter
+public final class ThemeToken<T> {
+
+    private static final List<ThemeToken<?>> VALUES = new ArrayList<>();
+
+    public static final ThemeToken<Color> FOREGROUND_COLOR = new ThemeToken<>("foregroundColor", Component.FOREGROUND_COLOR);
+    public static final ThemeToken<Color> FOREGROUND_COLOR_DISABLED = new ThemeToken<>("foregroundColorDisabled", Component.FOREGROUND_COLOR_DISABLED);
+    public static final ThemeToken<Color> HOVER_FOREGROUND_COLOR = new ThemeToken<>("hoverForegroundColor", Component.HOVER_FOREGROUND_COLOR);
+    public static final ThemeToken<Color> BACKGROUND_COLOR = new ThemeToken<>("backgroundColor", Component.BACKGROUND_COLOR);
+    public static final ThemeToken<Color> TEXT_COLOR = new ThemeToken<>("textColor", Component.TEXT_COLOR);
+    public static final ThemeToken<Color> TEXT_COLOR_DISABLED = new ThemeToken<>("textColorDisabled", Component.TEXT_COLOR_DISABLED);
+    public static final ThemeToken<Color> ACTIVE_FRAME_TITLE_COLOR = new ThemeToken<>("activeFrameTitleColor", Component.ACTIVE_FRAME_TITLE_COLOR);
+    public static final ThemeToken<Color> INACTIVE_FRAME_TITLE_COLOR = new ThemeToken<>("inactiveFrameTitleColor", Component.INACTIVE_FRAME_TITLE_COLOR);
+    public static final ThemeToken<Float> PANEL_BG_ALPHA = new ThemeToken<>("panelBgAlpha", Component.PANEL_BG_ALPHA);
+
+    public static final ThemeToken<Color> MENU_BACKGROUND_COLOR = new ThemeToken<>("menuBackgroundColor", Component.MENU_BACKGROUND_COLOR);
+    public static final ThemeToken<Color> MENU_HOVER_BACKGROUND_COLOR = new ThemeToken<>("menuHoverBackgroundColor", Component.MENU_HOVER_BACKGROUND_COLOR);
+    public static final ThemeToken<Color> MENU_SEPARATOR_COLOR = new ThemeToken<>("menuSeparatorColor", Component.MENU_SEPARATOR_COLOR);
+
+    public static final ThemeToken<Color> BUTTON_BACKGROUND_COLOR = new ThemeToken<>("buttonBackgroundColor", Color.GRAY);
+    public static final ThemeToken<Color> BUTTON_HOVER_BACKGROUND_COLOR = new ThemeToken<>("buttonHoverBackgroundColor", Color.of(0xBBBBBB));
+    public static final ThemeToken<Color> BUTTON_BACKGROUND_COLOR_DISABLED = new ThemeToken<>("buttonBackgroundColorDisabled", Color.DARK_GRAY);
+    public static final ThemeToken<Color> BUTTON_TOGGLE_BORDER_COLOR = new ThemeToken<>("buttonToggleBorderColor", Color.of(0x8080FF));
+
+    public static final ThemeToken<Color> INPUT_SELECTION_COLOR = new ThemeToken<>("inputSelectionColor", Color.DARK_GRAY);
+    public static final ThemeToken<Color> INPUT_FOCUS_RECT_COLOR = new ThemeToken<>("inputFocusRectColor", Color.of(0x515256));
+
+    public static final ThemeToken<Color> FRAME_BACKGROUND_COLOR_1 = new ThemeToken<>("frameBackgroundColor1", Color.of(0x161A1D));
+    public static final ThemeToken<Color> FRAME_BACKGROUND_COLOR_2 = new ThemeToken<>("frameBackgroundColor2", Color.of(0x000306));
+    public static final ThemeToken<Color> FRAME_BORDER_COLOR = new ThemeToken<>("frameBorderColor", Color.of(0x7E7E7E));
+    public static final ThemeToken<Float> FRAME_BG_ALPHA = new ThemeToken<>("frameBgAlpha", 0.9f);
+
+    private final String name;
+    private final T defaultValue;
+
+    private ThemeToken(String name, T defaultValue) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+        VALUES.add(this);
+    }
+
+    public static List<ThemeToken<?>> values() {
+        return Collections.unmodifiableList(VALUES);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -18,7 +18,6 @@
 
 package com.ancevt.d2d2.components;
 
-import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.event.CommonEvent;
 import com.ancevt.d2d2.event.NodeEvent;
 import com.ancevt.d2d2.scene.Color;
@@ -28,6 +27,8 @@ import com.ancevt.d2d2.scene.shape.RectangleShape;
 import com.ancevt.d2d2.scene.text.BitmapText;
 import com.ancevt.d2d2.scene.texture.TextureRegion;
 
+import java.util.Set;
+
 
 public class Tooltip extends Component {
 
@@ -45,23 +46,13 @@ public class Tooltip extends Component {
     private float maxImageHeight;
 
     private Tooltip() {
-        bg = new RectangleShape(1, 1, BACKGROUND_COLOR);
+        bg = new RectangleShape(1, 1, resolve(ThemeToken.BACKGROUND_COLOR));
         addChild(bg);
 
         setInteractionEnabled(false);
 
-        borders = new Combined9Sprites(
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_TOP_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_CENTER),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_RIGHT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_LEFT),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM),
-                D2D2.getTextureManager().getTextureRegion(ComponentAssets.RECT_BORDER_9_SIDE_BOTTOM_RIGHT)
-        );
-        borders.setColor(FOREGROUND_COLOR);
+        borders = ComponentAssets.getRectBorderStyle().createSprites();
+        borders.setColor(resolve(ThemeToken.FOREGROUND_COLOR));
         addChild(borders);
 
         spriteBg = SpriteFactory.createSpriteByTextureKey(ComponentAssets.TOOLTIP_IMAGE_BACKGROUND);
@@ -95,6 +86,12 @@ public class Tooltip extends Component {
         borders.setSize(getWidth(), getHeight());
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.BACKGROUND_COLOR, changed)) bg.setColor(resolve(ThemeToken.BACKGROUND_COLOR));
+        if (isThemeChanged(ThemeToken.FOREGROUND_COLOR, changed)) borders.setColor(resolve(ThemeToken.FOREGROUND_COLOR));
+    }
+
     public void setImageBackgroundVisible(boolean value) {
         spriteBg.setVisible(value);
     }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Bytes allocated by the current thread, as reported by the JVM. Returns {@code -1} where the JVM
+ * does not support per-thread allocation accounting.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    public static long getAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    public static long getAllocatedBytes(long threadId) {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * Runs {@code action} {@code warmup + iterations} times and returns the average number of bytes
+     * allocated per run over the measured iterations.
+     */
+    public static long measure(Runnable action, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+
+        long start = getAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long end = getAllocatedBytes();
+
+        return start < 0 ? -1 : (end - start) / Math.max(iterations, 1);
+    }
+
+    /**
+     * Like {@link #measure(Runnable, int, int)}, but throws {@link IllegalStateException} when the
+     * average allocation per run exceeds {@code budgetBytes}.
+     */
+    public static long checkBudget(String name, long budgetBytes, Runnable action, int warmup, int iterations) {
+        long bytes = measure(action, warmup, iterations);
+        if (bytes > budgetBytes) {
+            throw new IllegalStateException(name + " allocates " + bytes + " bytes per run, budget is " + budgetBytes);
+        }
+        return bytes;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return sunThreadMXBean;
+        }
+        return null;
+    }
+}
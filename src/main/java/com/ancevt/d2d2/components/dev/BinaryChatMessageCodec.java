@@ -0,0 +1,299 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.scene.Color;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Length-framed binary records: {@code varint length, zigzag varint id, 3 bytes RGB, UTF-8 text,
+ * int32 length}. The file starts with the {@code D2CH} magic and a version byte.
+ * <p>
+ * Text is encoded straight into the output buffer. The trailing length lets the tail be found by
+ * walking records backwards from the end of the file, so reading costs the same however long the
+ * history is, and lets a record cut short by a crash be recognised: its leading and trailing
+ * lengths do not match.
+ */
+class BinaryChatMessageCodec implements ChatMessageCodec {
+
+    static final byte[] MAGIC = {'D', '2', 'C', 'H'};
+    private static final byte[] HEADER = {'D', '2', 'C', 'H', 2};
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int TRAILER_SIZE = 4;
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    @Override
+    public byte[] getHeader() {
+        return HEADER.clone();
+    }
+
+    @Override
+    public boolean encode(ChatLine chatLine, ByteBuffer buffer) {
+        String text = chatLine.text() != null ? chatLine.text() : "";
+        int id = chatLine.id();
+        int textLength = utf8Length(text);
+        int payloadLength = varIntSize(zigZag(id)) + 3 + textLength;
+
+        if (buffer.remaining() < MAX_VARINT_SIZE + payloadLength + TRAILER_SIZE) return false;
+
+        Color color = chatLine.textColor();
+
+        writeVarInt(buffer, payloadLength);
+        writeVarInt(buffer, zigZag(id));
+        if (color != null) {
+            buffer.put((byte) color.getR());
+            buffer.put((byte) color.getG());
+            buffer.put((byte) color.getB());
+        } else {
+            buffer.put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF);
+        }
+        writeUtf8(buffer, text);
+        buffer.putInt(payloadLength);
+        return true;
+    }
+
+    @Override
+    public List<ChatLine> readTail(FileChannel channel, int maxLines) throws IOException {
+        ChunkReader reader = new ChunkReader(channel);
+        long end = findValidEnd(reader, channel.size());
+
+        long start = end;
+        for (int count = 0; count < maxLines && start > HEADER.length; count++) {
+            long recordStart = getRecordStart(reader, start);
+            if (recordStart < HEADER.length) break;
+            start = recordStart;
+        }
+
+        ByteBuffer data = ByteBuffer.allocate((int) (end - start));
+        ChatMessageCodec.readFully(channel, data, start);
+        data.flip();
+
+        List<ChatLine> lines = new ArrayList<>();
+        Map<Integer, Color> colors = new HashMap<>();
+        byte[] array = data.array();
+
+        while (data.hasRemaining()) {
+            int payloadLength = readVarInt(data);
+            int payloadEnd = data.position() + payloadLength;
+            int id = unZigZag(readVarInt(data));
+            int rgb = (data.get() & 0xFF) << 16 | (data.get() & 0xFF) << 8 | (data.get() & 0xFF);
+            int textOffset = data.position();
+            String text = new String(array, data.arrayOffset() + textOffset, payloadEnd - textOffset, StandardCharsets.UTF_8);
+            data.position(payloadEnd + TRAILER_SIZE);
+
+            lines.add(new ChatLine(id, text, colors.computeIfAbsent(rgb, Color::of)));
+        }
+
+        return lines;
+    }
+
+    @Override
+    public long findValidEnd(FileChannel channel) throws IOException {
+        return findValidEnd(new ChunkReader(channel), channel.size());
+    }
+
+    /**
+     * Checks the last record in O(1); only if it is incomplete are the records scanned from the
+     * start to find the end of the last complete one.
+     */
+    private static long findValidEnd(ChunkReader reader, long size) throws IOException {
+        if (size <= HEADER.length) return Math.min(size, HEADER.length);
+        if (getRecordStart(reader, size) >= HEADER.length) return size;
+
+        long position = HEADER.length;
+        while (position < size) {
+            long recordEnd = getRecordEnd(reader, position, size);
+            if (recordEnd < 0) break;
+            position = recordEnd;
+        }
+        return position;
+    }
+
+    /**
+     * @return start of the record ending at {@code end}, or {@code -1} if there is no complete
+     * record ending there
+     */
+    private static long getRecordStart(ChunkReader reader, long end) throws IOException {
+        if (end - HEADER.length < TRAILER_SIZE + 1) return -1;
+
+        int payloadLength = reader.getInt(end - TRAILER_SIZE);
+        if (payloadLength < 0) return -1;
+
+        long start = end - TRAILER_SIZE - payloadLength - varIntSize(payloadLength);
+        if (start < HEADER.length || reader.getVarInt(start) != payloadLength) return -1;
+        return start;
+    }
+
+    /**
+     * @return end of the complete record starting at {@code start}, or {@code -1} if the record is
+     * incomplete or corrupted
+     */
+    private static long getRecordEnd(ChunkReader reader, long start, long size) throws IOException {
+        int payloadLength = reader.getVarInt(start);
+        if (payloadLength < 0) return -1;
+
+        long end = start + varIntSize(payloadLength) + payloadLength + TRAILER_SIZE;
+        if (end > size || reader.getInt(end - TRAILER_SIZE) != payloadLength) return -1;
+        return end;
+    }
+
+    /**
+     * @return the value or {@code -1} if the buffer ends inside the varint
+     */
+    private static int readVarInt(ByteBuffer data) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!data.hasRemaining()) return -1;
+            byte b = data.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        return -1;
+    }
+
+    private static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length++;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeUtf8(ByteBuffer buffer, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    buffer.put((byte) (0xF0 | codePoint >> 18));
+                    buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    buffer.put((byte) '?');
+                }
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Random access reads through a cached window of the file, so walking records costs one read
+     * per {@link #READ_CHUNK_SIZE} bytes rather than one per record.
+     */
+    private static class ChunkReader {
+        private final FileChannel channel;
+        private final ByteBuffer window = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        private long windowStart = -1;
+        private long size;
+
+        private ChunkReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            size = channel.size();
+        }
+
+        private int get(long position) throws IOException {
+            if (position < 0 || position >= size) return -1;
+            if (windowStart < 0 || position < windowStart || position >= windowStart + window.limit()) {
+                windowStart = Math.max(0, Math.min(position - READ_CHUNK_SIZE / 2, size - READ_CHUNK_SIZE));
+                window.clear().limit((int) Math.min(READ_CHUNK_SIZE, size - windowStart));
+                ChatMessageCodec.readFully(channel, window, windowStart);
+                window.limit(window.position());
+            }
+            int index = (int) (position - windowStart);
+            return index < window.limit() ? window.get(index) & 0xFF : -1;
+        }
+
+        private int getInt(long position) throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = get(position + i);
+                if (b < 0) return -1;
+                value = value << 8 | b;
+            }
+            return value;
+        }
+
+        private int getVarInt(long position) throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = get(position++);
+                if (b < 0) return -1;
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            return -1;
+        }
+    }
+}
@@ -21,11 +21,11 @@ package com.ancevt.d2d2.components.dev;
 import com.ancevt.commons.fs.IsolatedDirectory;
 import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.components.ComponentFont;
+import com.ancevt.d2d2.components.ComponentScheduler;
 import com.ancevt.d2d2.components.TextInput;
 import com.ancevt.d2d2.components.TextInputEvent;
 import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.input.KeyCode;
-import com.ancevt.d2d2.scene.AbstractNode;
 import com.ancevt.d2d2.scene.BasicGroup;
 import com.ancevt.d2d2.scene.Color;
 import com.ancevt.d2d2.time.Timer;
@@ -33,9 +33,10 @@ import lombok.Getter;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class Chat extends BasicGroup {
 
@@ -46,8 +47,11 @@ public class Chat extends BasicGroup {
 
     @Getter
     protected final TextInput textInput;
-    private final List<ChatMessage> messages;
+    private RingBuffer<ChatLine> messages;
     private final List<ChatMessage> displayedMessages;
+    private long displayedFromSequence;
+    private int displayedCount;
+    private boolean rowsDirty = true;
     private final List<String> history;
     private float width;
     private float height;
@@ -73,8 +77,8 @@ public class Chat extends BasicGroup {
         isolatedDirectory = IsolatedDirectory.newIsolatedDirectoryInApplicationData(Path.of(dirInUserHome));
 
         textInput = new TextInput();
-        messages = new CopyOnWriteArrayList<>();
-        displayedMessages = new CopyOnWriteArrayList<>();
+        messages = new RingBuffer<>(maxMessages);
+        displayedMessages = new ArrayList<>();
         history = new ArrayList<>();
 
         width = D2D2.getStage().getWidth() / 2.0f;
@@ -91,7 +95,7 @@ public class Chat extends BasicGroup {
 
         redraw();
 
-        stage.onPostFrame(e -> postFrame());
+        ComponentScheduler.getInstance().subscribe(this, this::postFrame);
     }
 
     private void textInput_keyDown(TextInputEvent.TextInputKeyDown e) {
@@ -140,11 +144,19 @@ public class Chat extends BasicGroup {
 
     public void setMulticolorEnabled(boolean multicolorEnabled) {
         this.multicolorEnabled = multicolorEnabled;
+        rowsDirty = true;
         redraw();
     }
 
     public void setMaxMessages(int maxMessages) {
+        if (this.maxMessages == maxMessages) return;
         this.maxMessages = maxMessages;
+
+        RingBuffer<ChatLine> resized = new RingBuffer<>(maxMessages);
+        messages.forEach(resized::add);
+        messages = resized;
+        rowsDirty = true;
+        scrollToEnd();
         redraw();
     }
 
@@ -156,8 +168,22 @@ public class Chat extends BasicGroup {
         }
     }
 
+    /**
+     * @return a snapshot of all messages as new, detached {@link ChatMessage} nodes; prefer
+     * {@link #getLines()}, which does not create nodes
+     */
     public List<ChatMessage> getMessages() {
-        return List.copyOf(messages);
+        List<ChatMessage> result = new ArrayList<>(messages.size());
+        messages.forEach(chatLine -> result.add(new ChatMessage(chatLine)));
+        return result;
+    }
+
+    public List<ChatLine> getLines() {
+        return messages.toList();
+    }
+
+    public void forEachMessage(Consumer<ChatLine> action) {
+        messages.forEach(action);
     }
 
     public void setInputEnabled(boolean b) {
@@ -190,18 +216,23 @@ public class Chat extends BasicGroup {
 
     public void setWidth(float width) {
         this.width = width;
+        rowsDirty = true;
         redraw();
     }
 
     public void setHeight(float height) {
         this.height = height;
+        rowsDirty = true;
         scrollToEnd();
+        redraw();
     }
 
     public void setSize(float width, float height) {
         this.width = width;
         this.height = height;
+        rowsDirty = true;
         scrollToEnd();
+        redraw();
     }
 
     @Override
@@ -214,26 +245,67 @@ public class Chat extends BasicGroup {
         return height;
     }
 
+    /**
+     * Incremental renderer: the pooled rows {@code displayedMessages[0, displayedCount)} show the
+     * lines with sequences {@code [displayedFromSequence, displayedFromSequence + displayedCount)}.
+     * When the visible window moves by fewer lines than are displayed, the rows are rotated and
+     * only the rows that came into view are rebound.
+     */
     private void redraw() {
-        textInput.setPosition(0, height);
+        int capacity = getMessageCountOnDisplay();
+
+        if (rowsDirty) {
+            textInput.setPosition(0, height);
+            textInput.setMaxSize(D2D2.getStage().getWidth(), 16);
 
-        textInput.setMaxSize(D2D2.getStage().getWidth(), 16);
+            while (displayedMessages.size() > capacity) {
+                displayedMessages.remove(displayedMessages.size() - 1).removeFromParent();
+            }
+        }
 
-        displayedMessages.forEach(AbstractNode::removeFromParent);
+        long fromSequence = messages.getFirstSequence() + scroll;
+        int count = Math.max(0, Math.min(capacity, messages.size() - scroll));
 
-        int y = 0;
+        while (displayedMessages.size() < count) {
+            displayedMessages.add(new ChatMessage());
+        }
 
-        for (int i = scroll; i < messages.size() && i - scroll < getMessageCountOnDisplay(); i++) {
-            ChatMessage chatMessage = messages.get(i);
-            chatMessage.setMulticolorEnabled(multicolorEnabled);
-            displayedMessages.add(chatMessage);
+        long shift = fromSequence - displayedFromSequence;
+        boolean rebindAll = rowsDirty || Math.abs(shift) >= displayedCount;
+        if (!rebindAll && shift != 0) {
+            Collections.rotate(displayedMessages, (int) -shift);
+        }
 
-            chatMessage.bitmapText.setWidth(getWidth());
-            chatMessage.bitmapText.setHeight(20);
+        for (int i = 0; i < displayedMessages.size(); i++) {
+            ChatMessage chatMessage = displayedMessages.get(i);
 
-            addChild(chatMessage, 0, y);
-            y += 16;
+            if (i >= count) {
+                chatMessage.removeFromParent();
+                continue;
+            }
+
+            long previousIndex = i + shift;
+            if (rebindAll || previousIndex < 0 || previousIndex >= displayedCount) {
+                chatMessage.bind(messages.getBySequence(fromSequence + i));
+                chatMessage.setMulticolorEnabled(multicolorEnabled);
+                chatMessage.bitmapText.setWidth(getWidth());
+                chatMessage.bitmapText.setHeight(20);
+            }
+
+            if (chatMessage.getParent() == this) {
+                chatMessage.setPosition(0, i * 16);
+            } else {
+                addChild(chatMessage, 0, i * 16);
+            }
         }
+
+        displayedFromSequence = fromSequence;
+        displayedCount = count;
+        rowsDirty = false;
+    }
+
+    public int getDisplayedMessageCount() {
+        return displayedCount;
     }
 
     private int getMessageCountOnDisplay() {
@@ -242,13 +314,13 @@ public class Chat extends BasicGroup {
 
     public void setScroll(int scroll) {
         setAlpha(1.0f);
-        if (this.scroll == scroll) return;
 
         if (scroll > messages.size() - getMessageCountOnDisplay()) {
             scroll = messages.size() - getMessageCountOnDisplay();
         }
         if (scroll < 0) scroll = 0;
 
+        if (this.scroll == scroll) return;
         this.scroll = scroll;
 
         redraw();
@@ -257,22 +329,24 @@ public class Chat extends BasicGroup {
     public void addMessage(String messageText, Color textColor) {
         setAlpha(1.0f);
         alphaTime = ALPHA_TIME;
+        forEachDisplayLine(messageText, line -> appendLine(new ChatLine(0, line, textColor)));
+        commitAppendedLines();
+    }
+
+    protected static void forEachDisplayLine(String messageText, Consumer<String> action) {
         if (messageText.length() > 100) {
-            StringBuilder s = new StringBuilder();
             for (int i = 0; i < messageText.length(); i += 100) {
-                String part = messageText.substring(i, Math.min(i + 100, messageText.length()));
-                addMessage(part, textColor);
+                forEachDisplayLine(messageText.substring(i, Math.min(i + 100, messageText.length())), action);
             }
             return;
         }
 
         if (messageText.contains("\n")) {
-            messageText.lines().forEach(line -> addMessage(line, textColor));
+            messageText.lines().forEach(line -> forEachDisplayLine(line, action));
             return;
         }
 
-        addMessage(new ChatMessage(0, messageText, textColor));
-        redraw();
+        action.accept(messageText);
     }
 
     public void println(String messageText) {
@@ -292,14 +366,26 @@ public class Chat extends BasicGroup {
     }
 
     public void addMessage(ChatMessage chatMessage) {
+        addLine(chatMessage.toChatLine());
+    }
+
+    public void addLine(ChatLine chatLine) {
+        appendLine(chatLine);
+        commitAppendedLines();
+    }
+
+    public void addLines(Iterable<ChatLine> chatLines) {
+        chatLines.forEach(this::appendLine);
+        commitAppendedLines();
+    }
+
+    protected void appendLine(ChatLine chatLine) {
         setAlpha(1.0f);
         alphaTime = ALPHA_TIME;
-        messages.add(chatMessage);
-
-        if (messages.size() > maxMessages) {
-            messages.removeAll(messages.subList(0, maxMessages / 3));
-        }
+        messages.add(chatLine);
+    }
 
+    protected void commitAppendedLines() {
         scrollToEnd();
         redraw();
     }
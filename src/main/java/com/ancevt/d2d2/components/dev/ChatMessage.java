@@ -25,17 +25,19 @@ import com.ancevt.d2d2.scene.text.BitmapFont;
 import com.ancevt.d2d2.scene.text.BitmapText;
 import lombok.Getter;
 
+import java.util.Objects;
+
 public class ChatMessage extends BasicGroup {
 
     private static final float DEFAULT_WIDTH = 1000;
     public static final float DEFAULT_HEIGHT = 16;
 
     @Getter
-    private final int id;
+    private int id;
     @Getter
-    private final String textString;
+    private String textString;
     @Getter
-    private final Color textColor;
+    private Color textColor;
     final BitmapText bitmapText;
 
     @Getter
@@ -58,6 +60,30 @@ public class ChatMessage extends BasicGroup {
         addChild(bitmapText);
     }
 
+    public ChatMessage(ChatLine chatLine) {
+        this(chatLine.id(), chatLine.text(), chatLine.textColor());
+    }
+
+    public ChatMessage() {
+        this(0, "", Color.WHITE);
+    }
+
+    public void bind(ChatLine chatLine) {
+        id = chatLine.id();
+        if (!Objects.equals(chatLine.text(), textString)) {
+            textString = chatLine.text();
+            bitmapText.setText(textString);
+        }
+        if (!Objects.equals(chatLine.textColor(), textColor)) {
+            textColor = chatLine.textColor();
+            bitmapText.setColor(textColor);
+        }
+    }
+
+    public ChatLine toChatLine() {
+        return new ChatLine(id, textString, textColor);
+    }
+
     public void setMulticolorEnabled(boolean multicolorEnabled) {
         bitmapText.setMulticolor(multicolorEnabled);
         this.multicolorEnabled = multicolorEnabled;
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encoding of {@link ChatLine} records in the console output history file.
+ */
+public interface ChatMessageCodec {
+
+    ChatMessageCodec JSON = new JsonChatMessageCodec();
+    ChatMessageCodec BINARY = new BinaryChatMessageCodec();
+
+    /**
+     * @return bytes written once at the start of a new file, empty if the format has no header
+     */
+    byte[] getHeader();
+
+    /**
+     * Encodes the line into the buffer.
+     *
+     * @return {@code false}, leaving the buffer untouched, if the record does not fit into the
+     * remaining space
+     */
+    boolean encode(ChatLine chatLine, ByteBuffer buffer);
+
+    /**
+     * Reads the last {@code maxLines} records of a whole file, header included.
+     */
+    List<ChatLine> readTail(FileChannel channel, int maxLines) throws IOException;
+
+    /**
+     * @return offset just past the last complete record, the file size if the file is intact;
+     * anything after it is a record cut short by a crash
+     */
+    long findValidEnd(FileChannel channel) throws IOException;
+
+    /**
+     * Picks the codec of an existing file by its header, falling back to JSON, the format older
+     * output history files were written in.
+     *
+     * @return {@code null} for a binary file of an unsupported version
+     */
+    static ChatMessageCodec detect(FileChannel channel) throws IOException {
+        byte[] header = BINARY.getHeader();
+        ByteBuffer head = ByteBuffer.allocate(header.length);
+        ChatMessageCodec.readFully(channel, head, 0);
+
+        byte[] bytes = head.array();
+        if (Arrays.equals(bytes, header)) return BINARY;
+        if (Arrays.equals(bytes, 0, BinaryChatMessageCodec.MAGIC.length, BinaryChatMessageCodec.MAGIC, 0, BinaryChatMessageCodec.MAGIC.length)) {
+            return null;
+        }
+        return JSON;
+    }
+
+    static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) break;
+        }
+    }
+}
@@ -32,6 +32,14 @@ public class ChatMessageJsonConverter {
     private static final Gson gson = JsonEngine.gson();
 
     public static ChatMessage jsonToChatMessage(String json) {
+        return new ChatMessage(jsonToChatLine(json));
+    }
+
+    public static String chatMessageToJson(ChatMessage chatMessage) {
+        return chatLineToJson(chatMessage.toChatLine());
+    }
+
+    public static ChatLine jsonToChatLine(String json) {
         JsonObject jsonObject = gson.fromJson(json, JsonObject.class);
 
         int id = jsonObject.get("id").getAsInt();
@@ -40,14 +48,14 @@ public class ChatMessageJsonConverter {
 
         Color textColor = (textColorHex != null) ? Color.of(textColorHex) : Color.WHITE;
 
-        return new ChatMessage(id, text, textColor);
+        return new ChatLine(id, text, textColor);
     }
 
-    public static String chatMessageToJson(ChatMessage chatMessage) {
+    public static String chatLineToJson(ChatLine chatLine) {
         JsonObject object = new JsonObject();
-        object.addProperty("id", chatMessage.getId());
-        addPropertyIfNotNull(object, "text", chatMessage.getTextString());
-        addPropertyIfNotNull(object, "textColorHex", chatMessage.getTextColor() != null ? chatMessage.getTextColor().toHexString() : null);
+        object.addProperty("id", chatLine.id());
+        addPropertyIfNotNull(object, "text", chatLine.text());
+        addPropertyIfNotNull(object, "textColorHex", chatLine.textColor() != null ? chatLine.textColor().toHexString() : null);
         return gson.toJson(object);
     }
 
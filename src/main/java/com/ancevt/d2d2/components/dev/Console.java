@@ -25,8 +25,11 @@ import com.ancevt.commons.string.TextTable;
 import com.ancevt.commons.util.ApplicationMainClassNameExtractor;
 import com.ancevt.d2d2.D2D2;
 import com.ancevt.d2d2.common.Disposable;
+import com.ancevt.d2d2.components.ComponentProfiler;
+import com.ancevt.d2d2.components.ComponentScheduler;
 import com.ancevt.d2d2.event.CommonEvent;
 import com.ancevt.d2d2.event.InputEvent;
+import com.ancevt.d2d2.event.StageEvent;
 import com.ancevt.d2d2.scene.Color;
 import com.ancevt.d2d2.scene.Stage;
 import com.ancevt.util.args.Args;
@@ -36,7 +39,10 @@ import com.google.gson.reflect.TypeToken;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -50,6 +56,8 @@ public class Console extends Chat implements Disposable {
 
     private static final Object NO_INITIAL_VALUE = new Object();
 
+    private static final String OUTPUT_HISTORY_FILE = "outputhistory";
+
     private final List<Command> commands = new ArrayList<>();
 
     private final Map<String, String> initialValues = new HashMap<>();
@@ -68,6 +76,13 @@ public class Console extends Chat implements Disposable {
     @Setter
     private Supplier<String> prompt = () -> "$ ";
 
+    @Getter(AccessLevel.NONE)
+    private final Queue<ChatLine> asyncLines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger asyncLineCount = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    private OutputHistoryJournal outputHistoryJournal;
+
     public Console(String consoleName) {
         super(consoleName);
 
@@ -77,6 +92,7 @@ public class Console extends Chat implements Disposable {
         addEventListener(ChatEvent.InputClose.class, this::this_chatInputClose);
         D2D2.getStage().addEventListener(this, CommonEvent.Start.class, this::stage_startMainLoop);
         D2D2.getStage().addEventListener(this, CommonEvent.Stop.class, this::stage_exitMainLoop);
+        D2D2.getStage().addEventListener(this, StageEvent.PostFrame.class, this::stage_postFrame);
         openInput();
         loadOutputHistory();
 
@@ -95,7 +111,7 @@ public class Console extends Chat implements Disposable {
 
     private void stage_exitMainLoop(CommonEvent.Stop event) {
         saveInputHistory();
-        saveOutputHistory();
+        closeOutputHistory();
         saveVariables();
     }
 
@@ -274,29 +290,126 @@ public class Console extends Chat implements Disposable {
         println("Unknown command: " + args.get(String.class, 0), Color.RED);
     }
 
+    public void printlnAsync(String messageText) {
+        printlnAsync(messageText, Color.LIGHT_GRAY);
+    }
+
+    /**
+     * Thread-safe variant of {@link #println(String, Color)}. Lines are queued and appended on the
+     * render thread after each frame, with one redraw per frame however many were queued. The
+     * queue holds at most {@link #getMaxMessages()} lines; when producers outpace the frame rate
+     * the oldest queued lines are dropped and never reach the output or its history file.
+     */
+    public void printlnAsync(String messageText, Color color) {
+        forEachDisplayLine(messageText, line -> {
+            asyncLines.offer(new ChatLine(0, line, color));
+            if (asyncLineCount.incrementAndGet() > getMaxMessages() && asyncLines.poll() != null) {
+                asyncLineCount.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Runs on every frame, whether the console is on the scene or not, so queued lines and the
+     * output history journal never wait for the console to be shown.
+     */
+    private void stage_postFrame(StageEvent.PostFrame event) {
+        long time = ComponentProfiler.start();
+        flushAsyncLines();
+        flushOutputHistory();
+        ComponentProfiler.stop(this, ComponentProfiler.Section.POST_FRAME, time);
+    }
+
+    @Override
+    protected void appendLine(ChatLine chatLine) {
+        super.appendLine(chatLine);
+
+        if (outputHistoryJournal != null) {
+            try {
+                outputHistoryJournal.append(chatLine);
+            } catch (IOException e) {
+                outputHistoryFailed(e);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+
+        if (outputHistoryJournal != null) {
+            try {
+                outputHistoryJournal.truncate();
+            } catch (IOException e) {
+                outputHistoryFailed(e);
+            }
+        }
+    }
+
+    /**
+     * Appends at most the lines that were queued when the frame started; lines offered while
+     * draining wait for the next frame, so fast producers cannot stall the render thread.
+     */
+    private void flushAsyncLines() {
+        int count = asyncLineCount.get();
+        if (count == 0) return;
+
+        int appended = 0;
+        ChatLine chatLine;
+        while (appended < count && (chatLine = asyncLines.poll()) != null) {
+            asyncLineCount.decrementAndGet();
+            appendLine(chatLine);
+            appended++;
+        }
+
+        if (appended > 0) commitAppendedLines();
+    }
+
     public static boolean checkSetVariablePattern(String input) {
         return Pattern.matches("[a-zA-Z_$][a-zA-Z\\d_$\\.]*=.*", input);
     }
 
     private void loadOutputHistory() {
-        getIsolatedDirectory().checkExists("outputhistory").ifPresent(relativePath -> {
-            String content = getIsolatedDirectory().readString(relativePath);
-            content.lines().forEach(s -> {
-                ChatMessage chatMessage = ChatMessageJsonConverter.jsonToChatMessage(s);
-                addMessage(chatMessage);
-            });
-        });
+        OutputHistoryJournal journal = new OutputHistoryJournal(getIsolatedDirectory().getDir().resolve(OUTPUT_HISTORY_FILE));
+        try {
+            addLines(journal.readTail(getMaxMessages()));
+            journal.open();
+            outputHistoryJournal = journal;
+        } catch (IOException e) {
+            log.error("Could not open console output history", e);
+        }
     }
 
-    private void saveOutputHistory() {
-        StringBuilder sb = new StringBuilder();
+    private void flushOutputHistory() {
+        if (outputHistoryJournal == null) return;
 
-        getMessages().forEach(m -> {
-            sb.append(ChatMessageJsonConverter.chatMessageToJson(m));
-            sb.append("\n");
-        });
+        try {
+            outputHistoryJournal.flush();
+        } catch (IOException e) {
+            outputHistoryFailed(e);
+        }
+    }
+
+    private void closeOutputHistory() {
+        if (outputHistoryJournal == null) return;
 
-        getIsolatedDirectory().writeString(sb.toString(), "outputhistory");
+        try {
+            outputHistoryJournal.close();
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+        }
+        outputHistoryJournal = null;
+    }
+
+    private void outputHistoryFailed(IOException e) {
+        log.error("Console output history disabled", e);
+        OutputHistoryJournal journal = outputHistoryJournal;
+        outputHistoryJournal = null;
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            log.error(ex.getMessage(), ex);
+        }
     }
 
     public void loadVariables() {
@@ -329,6 +442,9 @@ public class Console extends Chat implements Disposable {
         D2D2.getStage().removeEventListener(this, InputEvent.KeyDown.class);
         D2D2.getStage().removeEventListener(this, CommonEvent.Start.class);
         D2D2.getStage().removeEventListener(this, CommonEvent.Stop.class);
+        D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class);
+        ComponentScheduler.getInstance().unsubscribe(this);
+        closeOutputHistory();
         disposed = true;
     }
 
@@ -21,19 +21,30 @@ package com.ancevt.d2d2.components.dev;
 import com.ancevt.commons.string.ConvertableString;
 import com.ancevt.commons.string.StringLimiter;
 import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.components.ComponentProfiler;
+import com.ancevt.d2d2.components.ComponentScheduler;
+import com.ancevt.d2d2.components.SpriteFactory;
 import com.ancevt.d2d2.scene.Color;
 import com.ancevt.d2d2.scene.Group;
 import com.ancevt.d2d2.scene.Node;
 import com.ancevt.d2d2.scene.text.BitmapText;
+import com.ancevt.d2d2.time.Timer;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.function.BiConsumer;
 
 public class DevConsole extends Console {
 
+    private static final int PROFILER_ROWS = 20;
+
     private Group currentGroup = D2D2.getStage();
+    private DebugPanel profilerPanel;
+    private Timer profilerTimer;
+    private TelemetryPanel telemetryPanel;
+    private FrameTimeHud frameTimeHud;
 
     @Getter
     @Setter
@@ -91,12 +102,105 @@ public class DevConsole extends Console {
             }
         });
 
-        addCommand("mem", args -> println(MemoryInfo.getMemoryInfo()));
+        addCommand("mem", args -> {
+            if ("live".equals(args.next(String.class, ""))) {
+                toggleTelemetryPanel();
+                return;
+            }
+            println(MemoryInfo.getMemoryInfo());
+            MemoryTelemetry telemetry = MemoryTelemetry.getInstance();
+            if (telemetry.isRunning()) {
+                println("GC: " + telemetry.getTotalGcCount() + " collections, " + telemetry.getTotalGcMillis() + " ms");
+            }
+        });
 
         addCommand("gc", args -> {
             System.gc();
         });
 
+        addCommand("alloc", args -> {
+            FrameAllocationMonitor monitor = FrameAllocationMonitor.getInstance();
+            String arg = args.next(String.class, "");
+            if (arg.equals("off")) {
+                monitor.stop();
+            } else if (!arg.isEmpty()) {
+                monitor.start(Long.parseLong(arg));
+            }
+            println(monitor.toString());
+        });
+
+        addCommand("prof", args -> {
+            ComponentProfiler profiler = ComponentProfiler.getInstance();
+            switch (args.next(String.class, "")) {
+                case "on" -> profiler.setEnabled(true);
+                case "off" -> {
+                    profiler.setEnabled(false);
+                    hideProfilerPanel();
+                }
+                case "reset" -> profiler.reset();
+                case "live" -> {
+                    if (profilerPanel == null) {
+                        profiler.setEnabled(true);
+                        showProfilerPanel();
+                    } else {
+                        hideProfilerPanel();
+                    }
+                }
+                default -> {
+                }
+            }
+            println(profiler.render(PROFILER_ROWS));
+        });
+
+        addCommand("frametime", args -> {
+            switch (args.next(String.class, "")) {
+                case "show" -> {
+                    if (frameTimeHud == null) {
+                        frameTimeHud = new FrameTimeHud();
+                        D2D2.getStage().addChild(frameTimeHud, 10, D2D2.getStage().getHeight() - frameTimeHud.getHeight() - 10);
+                    }
+                }
+                case "hide" -> {
+                    if (frameTimeHud != null) {
+                        frameTimeHud.removeFromParent();
+                        frameTimeHud.dispose();
+                        frameTimeHud = null;
+                    }
+                }
+                case "reset" -> {
+                    if (frameTimeHud != null) frameTimeHud.reset();
+                }
+                case "dump" -> {
+                    if (frameTimeHud == null) {
+                        println("Frame time HUD is not shown", Color.DARK_RED);
+                        return;
+                    }
+                    Path file = Path.of(args.next(String.class, "frametime-" + System.currentTimeMillis() + ".csv"));
+                    try {
+                        frameTimeHud.getHistogram().writeTo(file);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                    frameTimeHud.reset();
+                    println("Frame times written to " + file.toAbsolutePath());
+                }
+                default -> println("usage: frametime show|hide|reset|dump [file]");
+            }
+        });
+
+        addCommand("spritecache", args -> {
+            if ("clear".equals(args.next(String.class, ""))) {
+                SpriteFactory.clearCache();
+                SpriteFactory.getTextureRegionCache().resetStats();
+            }
+            println(SpriteFactory.getTextureRegionCache().toString() +
+                    "textures loaded: " + SpriteFactory.getLoadedTextureCount());
+        });
+
+        addCommand("nodes", args -> println(SceneStats.getSceneStats(currentGroup)));
+
+        addCommand("tickers", args -> println("active tickers: " + ComponentScheduler.getInstance().getActiveTickerCount()));
+
         addCommand("debug", "d", args -> {
 
             if (!args.hasNext()) {
@@ -191,6 +295,39 @@ public class DevConsole extends Console {
         return node;
     }
 
+    private void toggleTelemetryPanel() {
+        if (telemetryPanel == null) {
+            MemoryTelemetry.getInstance().start();
+            telemetryPanel = new TelemetryPanel();
+            D2D2.getStage().addChild(telemetryPanel, D2D2.getStage().getWidth() - telemetryPanel.getWidth() - 10, 10);
+        } else {
+            telemetryPanel.removeFromParent();
+            telemetryPanel.dispose();
+            telemetryPanel = null;
+            MemoryTelemetry.getInstance().stop();
+        }
+    }
+
+    private void showProfilerPanel() {
+        profilerPanel = DebugPanel.show("d2d2.components.profiler");
+        profilerPanel.setWidth(460);
+        profilerPanel.setHeight(280);
+        if (!profilerPanel.hasParent()) {
+            D2D2.getStage().addChild(profilerPanel);
+        }
+        profilerTimer = Timer.setInterval(500, timer ->
+                profilerPanel.set(ComponentProfiler.getInstance().render(PROFILER_ROWS)));
+    }
+
+    private void hideProfilerPanel() {
+        if (profilerPanel == null) return;
+        profilerTimer.stop();
+        profilerPanel.removeFromParent();
+        profilerPanel.dispose();
+        profilerPanel = null;
+        profilerTimer = null;
+    }
+
     public static boolean checkTypeFiltersForClass(Class<?> clazz, String typeFilters) {
         if (typeFilters == null || typeFilters.isEmpty()) return true;
 
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.StageEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures bytes allocated by the render thread between consecutive post-frame events and counts
+ * frames that exceed a budget. The first frame over budget after {@link #start(long)} and every
+ * hundredth one after it are logged as warnings.
+ */
+@Slf4j
+public class FrameAllocationMonitor {
+
+    private static FrameAllocationMonitor instance;
+
+    public static FrameAllocationMonitor getInstance() {
+        return instance == null ? instance = new FrameAllocationMonitor() : instance;
+    }
+
+    @Getter
+    private boolean running;
+    @Getter
+    private long budgetBytes;
+    @Getter
+    private long frames;
+    @Getter
+    private long framesOverBudget;
+    @Getter
+    private long lastFrameBytes;
+    @Getter
+    private long maxFrameBytes;
+    private long totalBytes;
+    private long lastAllocatedBytes;
+
+    private FrameAllocationMonitor() {
+    }
+
+    public void start(long budgetBytes) {
+        if (!AllocationCounter.isSupported()) {
+            throw new UnsupportedOperationException("Thread allocation accounting is not supported by this JVM");
+        }
+
+        this.budgetBytes = budgetBytes;
+        reset();
+
+        if (!running) {
+            running = true;
+            lastAllocatedBytes = AllocationCounter.getAllocatedBytes();
+            D2D2.getStage().addEventListener(this, StageEvent.PostFrame.class, e -> postFrame());
+        }
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class);
+    }
+
+    public void reset() {
+        frames = framesOverBudget = lastFrameBytes = maxFrameBytes = totalBytes = 0;
+    }
+
+    public long getAverageFrameBytes() {
+        return frames > 0 ? totalBytes / frames : 0;
+    }
+
+    private void postFrame() {
+        long allocatedBytes = AllocationCounter.getAllocatedBytes();
+        lastFrameBytes = allocatedBytes - lastAllocatedBytes;
+        lastAllocatedBytes = allocatedBytes;
+
+        frames++;
+        totalBytes += lastFrameBytes;
+        if (lastFrameBytes > maxFrameBytes) maxFrameBytes = lastFrameBytes;
+
+        if (lastFrameBytes > budgetBytes) {
+            if (framesOverBudget++ % 100 == 0) {
+                log.warn("Frame {} allocated {} bytes, budget is {} ({} frames over budget)",
+                        frames, lastFrameBytes, budgetBytes, framesOverBudget);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Frame allocation: " + (running ? "running" : "stopped") + ", budget " + budgetBytes + " bytes\n" +
+                "frames: " + frames + ", over budget: " + framesOverBudget + "\n" +
+                "last: " + lastFrameBytes + ", avg: " + getAverageFrameBytes() + ", max: " + maxFrameBytes + " bytes\n";
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Log-bucketed histogram of durations in microseconds. Values below {@code 32} have a bucket each;
+ * above that every power of two is split into 32 linear sub-buckets, so any recorded value is
+ * off by at most about 3%. Recording is allocation-free; the exact maximum is kept separately.
+ */
+public class FrameTimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 31;
+
+    private final long[] counts = new long[(MAX_SHIFT + 2) * SUB_BUCKETS];
+    private long totalCount;
+    private long max;
+    private long sum;
+
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max) max = value;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getMean() {
+        return totalCount > 0 ? sum / totalCount : 0;
+    }
+
+    /**
+     * @return upper bound of the bucket holding the given percentile, never above the maximum
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= target) {
+                return Math.min(getUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Writes the percentiles and all non-empty buckets as CSV, for comparing runs offline.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("# frames: " + totalCount + ", mean: " + getMean() + " us, max: " + max + " us\n");
+            writer.write("# p50: " + getValueAtPercentile(50) + " us, p95: " + getValueAtPercentile(95) +
+                    " us, p99: " + getValueAtPercentile(99) + " us\n");
+            writer.write("lower_us,upper_us,count\n");
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) continue;
+                writer.write(getLowerBound(i) + "," + getUpperBound(i) + "," + counts[i] + "\n");
+            }
+        }
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, MAX_SHIFT);
+        long top = Math.min(value >>> shift, 2 * SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + (int) (top - SUB_BUCKETS);
+    }
+
+    private static long getLowerBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return top << shift;
+    }
+
+    private static long getUpperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
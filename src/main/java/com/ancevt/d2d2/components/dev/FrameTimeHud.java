@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.InputEvent;
+import com.ancevt.d2d2.event.NodeEvent;
+import com.ancevt.d2d2.event.StageEvent;
+import com.ancevt.d2d2.scene.Color;
+import com.ancevt.d2d2.scene.interactive.InteractiveGroup;
+import com.ancevt.d2d2.scene.shape.BorderedRectangleShape;
+import com.ancevt.d2d2.scene.text.BitmapText;
+import lombok.Getter;
+
+/**
+ * Draggable overlay that records the time between post-frame events into a
+ * {@link FrameTimeHistogram} while it is on the scene, and shows the percentiles together with a
+ * scrolling graph of the most recent frames.
+ */
+public class FrameTimeHud extends InteractiveGroup {
+
+    private static final float WIDTH = 260;
+    private static final float TEXT_HEIGHT = 28;
+    private static final float GRAPH_HEIGHT = 40;
+    private static final int COLUMNS = 120;
+    private static final int TEXT_INTERVAL_FRAMES = 30;
+
+    @Getter
+    private final FrameTimeHistogram histogram = new FrameTimeHistogram();
+    private final LongRingBuffer recentFrames = new LongRingBuffer(COLUMNS);
+    private final BitmapText bitmapText;
+    private final Sparkline sparkline;
+
+    private long lastFrameTime;
+    private int frame;
+    private float oldX;
+    private float oldY;
+
+    public FrameTimeHud() {
+        float height = TEXT_HEIGHT + GRAPH_HEIGHT + 8;
+        addChild(new BorderedRectangleShape(WIDTH, height, Color.of(0x001122), Color.WHITE));
+        setSize(WIDTH, height);
+
+        bitmapText = new BitmapText();
+        bitmapText.setSize(WIDTH - 8, TEXT_HEIGHT);
+        addChild(bitmapText, 4, 2);
+
+        sparkline = new Sparkline(recentFrames, COLUMNS, WIDTH - 8, GRAPH_HEIGHT, Color.of(0x80FF80));
+        addChild(sparkline, 4, TEXT_HEIGHT + 4);
+
+        onMouseDown(this::mouseDown);
+        onMouseDrag(this::mouseDrag);
+
+        addEventListener(NodeEvent.AddToScene.class, e -> {
+            lastFrameTime = 0;
+            D2D2.getStage().addEventListener(this, StageEvent.PostFrame.class, event -> postFrame());
+        });
+        addEventListener(NodeEvent.RemoveFromScene.class, e ->
+                D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class));
+    }
+
+    public void reset() {
+        histogram.reset();
+        recentFrames.clear();
+        updateText();
+    }
+
+    @Override
+    public void dispose() {
+        D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class);
+        super.dispose();
+    }
+
+    private void postFrame() {
+        long time = System.nanoTime();
+        if (lastFrameTime != 0) {
+            long micros = (time - lastFrameTime) / 1000;
+            histogram.record(micros);
+            recentFrames.add(micros);
+        }
+        lastFrameTime = time;
+
+        if (!isVisible()) return;
+
+        sparkline.redraw();
+        if (frame++ % TEXT_INTERVAL_FRAMES == 0) updateText();
+    }
+
+    private void updateText() {
+        bitmapText.setText(String.format("p50 %.1f  p95 %.1f  p99 %.1f  max %.1f ms\nframes: %d, mean %.1f ms",
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMax() / 1000.0,
+                histogram.getTotalCount(),
+                histogram.getMean() / 1000.0));
+    }
+
+    private void mouseDown(InputEvent.MouseDown e) {
+        oldX = e.getX() + getX();
+        oldY = e.getY() + getY();
+    }
+
+    private void mouseDrag(InputEvent.MouseDrag e) {
+        float tx = e.getX() + getX();
+        float ty = e.getY() + getY();
+        move(tx - oldX, ty - oldY);
+        oldX = tx;
+        oldY = ty;
+    }
+}
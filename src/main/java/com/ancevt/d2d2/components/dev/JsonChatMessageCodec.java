@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One JSON object per line, see {@link ChatMessageJsonConverter}. The tail is found by scanning
+ * the file backwards for line breaks, so lines before it are never parsed.
+ */
+@Slf4j
+class JsonChatMessageCodec implements ChatMessageCodec {
+
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+    private static final byte[] HEADER = new byte[0];
+
+    @Override
+    public byte[] getHeader() {
+        return HEADER;
+    }
+
+    @Override
+    public boolean encode(ChatLine chatLine, ByteBuffer buffer) {
+        byte[] bytes = (ChatMessageJsonConverter.chatLineToJson(chatLine) + '\n').getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < bytes.length) return false;
+        buffer.put(bytes);
+        return true;
+    }
+
+    @Override
+    public List<ChatLine> readTail(FileChannel channel, int maxLines) throws IOException {
+        long size = channel.size();
+        long start = findTailStart(channel, size, maxLines);
+
+        ByteBuffer data = ByteBuffer.allocate((int) (size - start));
+        ChatMessageCodec.readFully(channel, data, start);
+
+        List<ChatLine> lines = new ArrayList<>();
+        String content = new String(data.array(), 0, data.position(), StandardCharsets.UTF_8);
+        content.lines().filter(line -> !line.isBlank()).forEach(line -> {
+            try {
+                lines.add(ChatMessageJsonConverter.jsonToChatLine(line));
+            } catch (RuntimeException e) {
+                log.warn("Skipping corrupted output history line: {}", e.getMessage());
+            }
+        });
+        return lines;
+    }
+
+    /**
+     * @return offset after the last line break; a trailing partial line is cut off
+     */
+    @Override
+    public long findValidEnd(FileChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long position = channel.size();
+
+        while (position > 0) {
+            int length = (int) Math.min(READ_CHUNK_SIZE, position);
+            position -= length;
+            chunk.clear().limit(length);
+            ChatMessageCodec.readFully(channel, chunk, position);
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') return position + i + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    private static long findTailStart(FileChannel channel, long size, int maxLines) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long position = size;
+        int newlines = 0;
+
+        while (position > 0) {
+            int length = (int) Math.min(READ_CHUNK_SIZE, position);
+            position -= length;
+            chunk.clear().limit(length);
+            ChatMessageCodec.readFully(channel, chunk, position);
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n' && position + i != size - 1 && ++newlines == maxLines) {
+                    return position + i + 1;
+                }
+            }
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity ring of primitive longs for per-frame samples. Appending never allocates; the
+ * oldest sample is overwritten once the buffer is full. Index {@code 0} is the oldest sample.
+ */
+public class LongRingBuffer {
+
+    private final long[] values;
+    private int start;
+    private int size;
+
+    public LongRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        values = new long[capacity];
+    }
+
+    public void add(long value) {
+        if (size < values.length) {
+            values[(start + size++) % values.length] = value;
+        } else {
+            values[start] = value;
+            start = (start + 1) % values.length;
+        }
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return values[(start + index) % values.length];
+    }
+
+    public long getLast() {
+        return size == 0 ? 0 : get(size - 1);
+    }
+
+    public long getMax() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[(start + i) % values.length]);
+        }
+        return max;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return values.length;
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0);
+        start = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.StageEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Samples frame time, heap usage, render-thread allocation and garbage collections once per frame
+ * into fixed-size primitive series. Heap usage is read from {@link Runtime} and collections from
+ * the {@link GarbageCollectorMXBean}s obtained once at start, so sampling itself does not allocate.
+ */
+@Getter
+public class MemoryTelemetry {
+
+    public static final int CAPACITY = 240;
+
+    private static MemoryTelemetry instance;
+
+    public static MemoryTelemetry getInstance() {
+        return instance == null ? instance = new MemoryTelemetry() : instance;
+    }
+
+    private final LongRingBuffer frameNanos = new LongRingBuffer(CAPACITY);
+    private final LongRingBuffer heapUsedBytes = new LongRingBuffer(CAPACITY);
+    private final LongRingBuffer allocatedBytes = new LongRingBuffer(CAPACITY);
+    private final LongRingBuffer gcMillis = new LongRingBuffer(CAPACITY);
+    private final LongRingBuffer gcCount = new LongRingBuffer(CAPACITY);
+
+    private boolean running;
+    private long totalGcCount;
+    private long totalGcMillis;
+
+    @Getter(AccessLevel.NONE)
+    private List<GarbageCollectorMXBean> garbageCollectors;
+    @Getter(AccessLevel.NONE)
+    private long lastFrameTime;
+    @Getter(AccessLevel.NONE)
+    private long lastAllocatedBytes;
+
+    private MemoryTelemetry() {
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+
+        garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+        readGarbageCollectors();
+        lastFrameTime = System.nanoTime();
+        lastAllocatedBytes = AllocationCounter.getAllocatedBytes();
+
+        D2D2.getStage().addEventListener(this, StageEvent.PostFrame.class, e -> sample());
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class);
+    }
+
+    public void clear() {
+        frameNanos.clear();
+        heapUsedBytes.clear();
+        allocatedBytes.clear();
+        gcMillis.clear();
+        gcCount.clear();
+    }
+
+    private void sample() {
+        long time = System.nanoTime();
+        frameNanos.add(time - lastFrameTime);
+        lastFrameTime = time;
+
+        Runtime runtime = Runtime.getRuntime();
+        heapUsedBytes.add(runtime.totalMemory() - runtime.freeMemory());
+
+        long allocated = AllocationCounter.getAllocatedBytes();
+        allocatedBytes.add(allocated >= 0 ? allocated - lastAllocatedBytes : 0);
+        lastAllocatedBytes = allocated;
+
+        long oldGcCount = totalGcCount;
+        long oldGcMillis = totalGcMillis;
+        readGarbageCollectors();
+        gcCount.add(totalGcCount - oldGcCount);
+        gcMillis.add(totalGcMillis - oldGcMillis);
+    }
+
+    private void readGarbageCollectors() {
+        long count = 0;
+        long millis = 0;
+        for (int i = 0; i < garbageCollectors.size(); i++) {
+            GarbageCollectorMXBean garbageCollector = garbageCollectors.get(i);
+            count += Math.max(0, garbageCollector.getCollectionCount());
+            millis += Math.max(0, garbageCollector.getCollectionTime());
+        }
+        totalGcCount = count;
+        totalGcMillis = millis;
+    }
+}
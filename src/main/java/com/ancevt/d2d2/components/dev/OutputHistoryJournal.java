@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Append-only console output history. Lines are encoded with a {@link ChatMessageCodec} into a
+ * write buffer as they are added and written to the file by {@link #flush()}, which the console
+ * calls once per frame; the file is forced to disk at most once per {@link #FORCE_INTERVAL_MILLIS}.
+ * On startup only the tail of the file is read, and files that grew past
+ * {@link #COMPACT_THRESHOLD_BYTES} are rewritten with just that tail. Existing files keep the codec
+ * they were written with; new or truncated files use the preferred codec. A record left incomplete
+ * by a crash is cut off when the file is opened, so new records never follow a broken one.
+ */
+@Slf4j
+public class OutputHistoryJournal implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+    private static final long COMPACT_THRESHOLD_BYTES = 8 * 1024 * 1024;
+
+    private final Path file;
+    private final ChatMessageCodec preferredCodec;
+    private ByteBuffer buffer;
+
+    private ChatMessageCodec codec;
+    private FileChannel channel;
+    private long lastForceTime;
+    private boolean unforced;
+
+    public OutputHistoryJournal(Path file, ChatMessageCodec preferredCodec) {
+        this.file = file;
+        this.preferredCodec = preferredCodec;
+        codec = preferredCodec;
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    public OutputHistoryJournal(Path file) {
+        this(file, ChatMessageCodec.BINARY);
+    }
+
+    public ChatMessageCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Reads the last {@code maxLines} lines of the journal, compacting the file if it is too large.
+     * Must be called before {@link #open()}.
+     */
+    public List<ChatLine> readTail(int maxLines) throws IOException {
+        if (!Files.exists(file)) return List.of();
+
+        long size;
+        List<ChatLine> lines;
+
+        try (FileChannel readChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = readChannel.size();
+            if (size == 0) return List.of();
+            codec = ChatMessageCodec.detect(readChannel);
+            if (codec == null) {
+                log.warn("Unsupported output history format in {}, starting a new file", file);
+                codec = preferredCodec;
+                Files.write(file, new byte[0]);
+                return List.of();
+            }
+            lines = codec.readTail(readChannel, maxLines);
+        }
+
+        if (size > COMPACT_THRESHOLD_BYTES) {
+            rewrite(lines);
+        }
+
+        return lines;
+    }
+
+    public void open() throws IOException {
+        if (channel != null) return;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lastForceTime = System.currentTimeMillis();
+
+        long size = channel.size();
+        if (size > 0) {
+            ChatMessageCodec detected = ChatMessageCodec.detect(channel);
+            if (detected == null) {
+                log.warn("Unsupported output history format in {}, starting a new file", file);
+                channel.truncate(0);
+                size = 0;
+            } else {
+                codec = detected;
+                long validEnd = codec.findValidEnd(channel);
+                if (validEnd < size) {
+                    log.warn("Output history {} ends with an incomplete record, truncating {} bytes", file, size - validEnd);
+                    channel.truncate(validEnd);
+                    size = validEnd;
+                }
+            }
+        }
+
+        if (size == 0) {
+            codec = preferredCodec;
+            channel.position(0);
+            writeFully(ByteBuffer.wrap(codec.getHeader()));
+        } else {
+            channel.position(size);
+        }
+    }
+
+    public boolean isOpen() {
+        return channel != null;
+    }
+
+    public void append(ChatLine chatLine) throws IOException {
+        if (channel == null) return;
+
+        if (codec.encode(chatLine, buffer)) return;
+
+        writeBuffer();
+        while (!codec.encode(chatLine, buffer)) {
+            buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+        }
+    }
+
+    public void flush() throws IOException {
+        if (channel == null) return;
+
+        writeBuffer();
+
+        long time = System.currentTimeMillis();
+        if (unforced && time - lastForceTime >= FORCE_INTERVAL_MILLIS) {
+            channel.force(false);
+            lastForceTime = time;
+            unforced = false;
+        }
+    }
+
+    public void truncate() throws IOException {
+        buffer.clear();
+        codec = preferredCodec;
+        if (channel != null) {
+            channel.truncate(0);
+            channel.position(0);
+            writeFully(ByteBuffer.wrap(codec.getHeader()));
+        } else if (Files.exists(file)) {
+            Files.write(file, new byte[0]);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) return;
+
+        try {
+            writeBuffer();
+            channel.force(false);
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (buffer.position() == 0) return;
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        unforced = true;
+    }
+
+    private void rewrite(List<ChatLine> lines) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+            out.put(codec.getHeader());
+            for (ChatLine line : lines) {
+                while (!codec.encode(line, out)) {
+                    out.flip();
+                    if (!out.hasRemaining()) {
+                        out = ByteBuffer.allocate(out.capacity() * 2);
+                        continue;
+                    }
+                    while (out.hasRemaining()) tempChannel.write(out);
+                    out.clear();
+                }
+            }
+            out.flip();
+            while (out.hasRemaining()) tempChannel.write(out);
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
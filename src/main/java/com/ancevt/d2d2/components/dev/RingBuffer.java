@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-capacity ring buffer with O(1) append and eviction of the oldest element.
+ * <p>
+ * Every appended element gets a monotonically increasing sequence number. The buffer is meant
+ * for a single writer and any number of readers: the writer stores the slot before publishing
+ * it through the volatile {@code tail}, so a reader never observes an unpublished slot. Once the
+ * buffer is full the writer overwrites the slot of the oldest element, so every read is
+ * validated afterwards, seqlock style: {@code tail} is read again and an element whose slot may
+ * have been reused meanwhile is treated as evicted. Iteration therefore never returns an element
+ * out of order; it skips ahead past elements evicted while it runs.
+ */
+public class RingBuffer<E> implements Iterable<E> {
+
+    private static final Object EVICTED = new Object();
+
+    private final Object[] elements;
+
+    private volatile long head;
+    private volatile long tail;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        elements = new Object[capacity];
+    }
+
+    public void add(E element) {
+        long t = tail;
+        elements[(int) (t % elements.length)] = element;
+        if (t - head >= elements.length) {
+            head = t - elements.length + 1;
+        }
+        tail = t + 1;
+    }
+
+    public void clear() {
+        head = tail;
+        VarHandle.storeStoreFence();
+        Arrays.fill(elements, null);
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    public int size() {
+        long t = tail;
+        return (int) (t - firstSequence(t));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return sequence number of the oldest element still held by the buffer
+     */
+    public long getFirstSequence() {
+        return firstSequence(tail);
+    }
+
+    /**
+     * @return sequence number the next appended element will get
+     */
+    public long getNextSequence() {
+        return tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        while (true) {
+            long t = tail;
+            long h = firstSequence(t);
+            if (index < 0 || index >= t - h) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + (t - h));
+            }
+            Object element = read(h + index);
+            if (element != EVICTED) return (E) element;
+        }
+    }
+
+    /**
+     * @return the element with the given sequence number or {@code null} if it has been evicted
+     * or not written yet
+     */
+    @SuppressWarnings("unchecked")
+    public E getBySequence(long sequence) {
+        long t = tail;
+        if (sequence < firstSequence(t) || sequence >= t) return null;
+        Object element = read(sequence);
+        return element != EVICTED ? (E) element : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        long t = tail;
+        for (long s = firstSequence(t); s < t; s++) {
+            Object element = read(s);
+            if (element == EVICTED) {
+                s = firstSequence(tail) - 1;
+                continue;
+            }
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        long t = tail;
+        long h = firstSequence(t);
+
+        return new Iterator<>() {
+            private long sequence = h;
+            private Object next = EVICTED;
+
+            @Override
+            public boolean hasNext() {
+                while (next == EVICTED && sequence < t) {
+                    next = read(sequence++);
+                    if (next == EVICTED) sequence = Math.max(sequence, firstSequence(tail));
+                }
+                return next != EVICTED;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                E element = (E) next;
+                next = EVICTED;
+                return element;
+            }
+        };
+    }
+
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return Collections.unmodifiableList(list);
+    }
+
+    private long firstSequence(long t) {
+        return Math.max(head, t - elements.length);
+    }
+
+    /**
+     * @return the element with the given sequence number, or {@link #EVICTED} if its slot may have
+     * been reused or cleared while it was read
+     */
+    private Object read(long sequence) {
+        Object element = elements[(int) (sequence % elements.length)];
+        VarHandle.loadLoadFence();
+        return sequence >= head && sequence > tail - elements.length ? element : EVICTED;
+    }
+}
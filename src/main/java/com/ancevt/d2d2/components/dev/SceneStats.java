@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.scene.Group;
+import com.ancevt.d2d2.scene.Node;
+import com.ancevt.d2d2.scene.Sprite;
+import com.ancevt.d2d2.scene.interactive.Combined9Sprites;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counts the nodes of a subtree, to see how many sprites a screen of components actually puts on
+ * the scene. Nodes below an invisible node are counted as hidden.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SceneStats {
+
+    public static String getSceneStats(Group root) {
+        Counts counts = collect(root);
+
+        return "Nodes: " + counts.nodes() + " (visible: " + counts.visibleNodes() + ")\n" +
+                "Sprites: " + counts.sprites() + " (visible: " + counts.visibleSprites() + ")\n" +
+                "9-slice groups: " + counts.nineSliceGroups() + "\n";
+    }
+
+    public static Counts collect(Group root) {
+        int[] counts = new int[5];
+        count(root, true, counts);
+        return new Counts(counts[0], counts[1], counts[2], counts[3], counts[4]);
+    }
+
+    private static void count(Node node, boolean visible, int[] counts) {
+        visible &= node.isVisible();
+
+        counts[0]++;
+        if (visible) counts[1]++;
+        if (node instanceof Sprite) {
+            counts[2]++;
+            if (visible) counts[3]++;
+        }
+        if (node instanceof Combined9Sprites) counts[4]++;
+
+        if (node instanceof Group group) {
+            int num = group.getNumChildren();
+            for (int i = 0; i < num; i++) {
+                count(group.getChild(i), visible, counts);
+            }
+        }
+    }
+
+    public record Counts(int nodes, int visibleNodes, int sprites, int visibleSprites, int nineSliceGroups) {
+    }
+}
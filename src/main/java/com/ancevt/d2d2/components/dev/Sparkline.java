@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.scene.BasicGroup;
+import com.ancevt.d2d2.scene.Color;
+import com.ancevt.d2d2.scene.shape.RectangleShape;
+
+/**
+ * Bar graph of the most recent values of a {@link LongRingBuffer}, scaled to the largest value in
+ * the buffer. Bars are created once and only resized on {@link #redraw()}.
+ */
+class Sparkline extends BasicGroup {
+
+    private final LongRingBuffer series;
+    private final RectangleShape[] bars;
+    private final float graphHeight;
+
+    Sparkline(LongRingBuffer series, int columns, float width, float height, Color color) {
+        this.series = series;
+        this.graphHeight = height;
+
+        float barWidth = width / columns;
+        bars = new RectangleShape[columns];
+        for (int i = 0; i < columns; i++) {
+            RectangleShape bar = new RectangleShape(Math.max(1, barWidth - 1), 1, color);
+            bar.setPosition(i * barWidth, height - 1);
+            bar.setVisible(false);
+            bars[i] = bar;
+            addChild(bar);
+        }
+    }
+
+    void redraw() {
+        long max = series.getMax();
+        int offset = series.size() - bars.length;
+
+        for (int i = 0; i < bars.length; i++) {
+            RectangleShape bar = bars[i];
+            int index = offset + i;
+            if (index < 0) {
+                bar.setVisible(false);
+                continue;
+            }
+
+            float height = max > 0 ? Math.max(1, series.get(index) * graphHeight / max) : 1;
+            bar.setHeight(height);
+            bar.setY(graphHeight - height);
+            bar.setVisible(true);
+        }
+    }
+}
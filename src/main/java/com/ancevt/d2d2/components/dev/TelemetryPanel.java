@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.event.InputEvent;
+import com.ancevt.d2d2.event.NodeEvent;
+import com.ancevt.d2d2.event.StageEvent;
+import com.ancevt.d2d2.scene.Color;
+import com.ancevt.d2d2.scene.interactive.InteractiveGroup;
+import com.ancevt.d2d2.scene.shape.BorderedRectangleShape;
+import com.ancevt.d2d2.scene.text.BitmapText;
+
+import java.util.function.LongFunction;
+
+/**
+ * Draggable overlay with sparklines of the {@link MemoryTelemetry} series, so frame spikes can be
+ * lined up with allocation bursts and GC pauses. Graphs are redrawn every frame while the panel
+ * is on the scene; the value labels are refreshed a few times per second.
+ */
+public class TelemetryPanel extends InteractiveGroup {
+
+    private static final float WIDTH = 260;
+    private static final float ROW_HEIGHT = 40;
+    private static final float GRAPH_HEIGHT = 24;
+    private static final int COLUMNS = 120;
+    private static final int LABEL_INTERVAL_FRAMES = 15;
+
+    private final Row[] rows;
+    private int frame;
+    private float oldX;
+    private float oldY;
+
+    public TelemetryPanel() {
+        MemoryTelemetry telemetry = MemoryTelemetry.getInstance();
+
+        rows = new Row[]{
+                new Row("frame", telemetry.getFrameNanos(), Color.of(0x80FF80), v -> String.format("%.2f ms", v / 1_000_000.0)),
+                new Row("heap used", telemetry.getHeapUsedBytes(), Color.of(0x8080FF), v -> (v >> 20) + " MB"),
+                new Row("allocated", telemetry.getAllocatedBytes(), Color.of(0xFFFF80), v -> (v >> 10) + " KB/frame"),
+                new Row("gc time", telemetry.getGcMillis(), Color.of(0xFF8080), v -> v + " ms"),
+                new Row("gc count", telemetry.getGcCount(), Color.of(0xFF80FF), String::valueOf)
+        };
+
+        float height = rows.length * ROW_HEIGHT + 4;
+        addChild(new BorderedRectangleShape(WIDTH, height, Color.of(0x001122), Color.WHITE));
+        setSize(WIDTH, height);
+
+        for (int i = 0; i < rows.length; i++) {
+            Row row = rows[i];
+            float y = 2 + i * ROW_HEIGHT;
+            addChild(row.label, 4, y);
+            addChild(row.sparkline, 4, y + ROW_HEIGHT - GRAPH_HEIGHT - 2);
+        }
+
+        onMouseDown(this::mouseDown);
+        onMouseDrag(this::mouseDrag);
+
+        addEventListener(NodeEvent.AddToScene.class, e ->
+                D2D2.getStage().addEventListener(this, StageEvent.PostFrame.class, event -> postFrame()));
+        addEventListener(NodeEvent.RemoveFromScene.class, e ->
+                D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class));
+    }
+
+    @Override
+    public void dispose() {
+        D2D2.getStage().removeEventListener(this, StageEvent.PostFrame.class);
+        super.dispose();
+    }
+
+    private void postFrame() {
+        if (!isVisible()) return;
+
+        boolean updateLabels = frame++ % LABEL_INTERVAL_FRAMES == 0;
+        for (Row row : rows) {
+            row.sparkline.redraw();
+            if (updateLabels) row.updateLabel();
+        }
+    }
+
+    private void mouseDown(InputEvent.MouseDown e) {
+        oldX = e.getX() + getX();
+        oldY = e.getY() + getY();
+    }
+
+    private void mouseDrag(InputEvent.MouseDrag e) {
+        float tx = e.getX() + getX();
+        float ty = e.getY() + getY();
+        move(tx - oldX, ty - oldY);
+        oldX = tx;
+        oldY = ty;
+    }
+
+    private static class Row {
+        private final String name;
+        private final LongRingBuffer series;
+        private final LongFunction<String> formatter;
+        private final BitmapText label;
+        private final Sparkline sparkline;
+
+        private Row(String name, LongRingBuffer series, Color color, LongFunction<String> formatter) {
+            this.name = name;
+            this.series = series;
+            this.formatter = formatter;
+
+            label = new BitmapText();
+            label.setColor(color);
+            label.setSize(WIDTH - 8, ROW_HEIGHT - GRAPH_HEIGHT);
+
+            sparkline = new Sparkline(series, COLUMNS, WIDTH - 8, GRAPH_HEIGHT, color);
+        }
+
+        private void updateLabel() {
+            label.setText(name + ": " + formatter.apply(series.getLast()) + " (max " + formatter.apply(series.getMax()) + ")");
+        }
+    }
+}
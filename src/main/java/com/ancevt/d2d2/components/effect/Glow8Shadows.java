@@ -20,43 +20,64 @@ package com.ancevt.d2d2.components.effect;
 
 import com.ancevt.d2d2.scene.*;
 import com.ancevt.d2d2.scene.text.BitmapText;
+import com.ancevt.d2d2.scene.texture.TextureRegion;
 
+/**
+ * Glow made of offset copies of a source sprite or text. Text is rendered once into a cached
+ * sprite whose texture all copies share. Change the text through {@link #setText(String)}, which
+ * updates the source and re-renders the glow in one step; after changing the source directly,
+ * call {@link #refresh()}. Nothing is polled per frame. {@link Mode#DIAGONAL} uses
+ * the four diagonal offsets only, which halves the node count and looks the same at the small
+ * distances glows are usually drawn with.
+ */
 public class Glow8Shadows extends BasicGroup {
 
-    private final Node[] elements;
+    public enum Mode {
+        FULL,
+        DIAGONAL
+    }
 
-    public Glow8Shadows(Colored source, Color color, float distance, float alpha, float offsetX, float offsetY) {
-        float[][] coords = {
-            {0.0f, -1.0f},
-            {1.0f, -1.0f},
-            {1.0f, 0.0f},
-            {1.0f, 1.0f},
-            {0.0f, 1.0f},
-            {-1.0f, 1.0f},
-            {-1.0f, 0.0f},
-            {-1.0f, -1.0f}
-        };
-
-        Sprite sprite = null;
-
-        elements = new Colored[8];
-        for (int i = 0; i < coords.length; i++) {
-            float[] currentCoords = coords[i];
+    private static final float[][] FULL_COORDS = {
+        {0.0f, -1.0f},
+        {1.0f, -1.0f},
+        {1.0f, 0.0f},
+        {1.0f, 1.0f},
+        {0.0f, 1.0f},
+        {-1.0f, 1.0f},
+        {-1.0f, 0.0f},
+        {-1.0f, -1.0f}
+    };
 
+    private static final float[][] DIAGONAL_COORDS = {
+        {1.0f, -1.0f},
+        {1.0f, 1.0f},
+        {-1.0f, 1.0f},
+        {-1.0f, -1.0f}
+    };
 
-            if (sprite == null) {
-                if (source instanceof BitmapText bitmapText) {
-                    bitmapText = bitmapText.cloneBitmapText();
-                    bitmapText.setCacheAsSprite(true);
-                    sprite = bitmapText.cachedSprite();
-                } else if (source instanceof BasicSprite s) {
-                    sprite = s.cloneSprite();
-                } else {
-                    throw new IllegalArgumentException("Could not glow8 display object type: " + source.getClass().getName());
-                }
-            } else {
-                sprite = sprite.cloneSprite();
-            }
+    private final Sprite[] elements;
+    private final BitmapText sourceText;
+    private BitmapText bakedText;
+    private String bakedString;
+
+    public Glow8Shadows(Colored source, Color color, float distance, float alpha, float offsetX, float offsetY, Mode mode) {
+        float[][] coords = mode == Mode.DIAGONAL ? DIAGONAL_COORDS : FULL_COORDS;
+
+        Sprite template;
+        if (source instanceof BitmapText bitmapText) {
+            sourceText = bitmapText;
+            template = bake();
+        } else if (source instanceof BasicSprite s) {
+            sourceText = null;
+            template = s;
+        } else {
+            throw new IllegalArgumentException("Could not glow8 display object type: " + source.getClass().getName());
+        }
+
+        elements = new Sprite[coords.length];
+        for (int i = 0; i < coords.length; i++) {
+            float[] currentCoords = coords[i];
+            Sprite sprite = template.cloneSprite();
 
             sprite.setPosition(currentCoords[0] * distance, currentCoords[1] * distance);
             sprite.move(offsetX, offsetY);
@@ -66,11 +87,71 @@ public class Glow8Shadows extends BasicGroup {
 
             addChild(sprite);
         }
+    }
+
+    public Glow8Shadows(Colored source, Color color, float distance, float alpha, float offsetX, float offsetY) {
+        this(source, color, distance, alpha, offsetX, offsetY, Mode.FULL);
+    }
+
+    /**
+     * Sets the text of the {@link BitmapText} source and re-renders the glow if it changed.
+     */
+    public void setText(String text) {
+        if (sourceText == null) {
+            throw new IllegalStateException("Glow source is not a BitmapText");
+        }
+        sourceText.setText(text);
+        if (!text.equals(bakedString)) refresh();
+    }
+
+    /**
+     * Re-renders the glow from the current text of the source; has no effect for sprite sources.
+     */
+    public void refresh() {
+        if (sourceText == null) return;
+
+        BitmapText oldBakedText = bakedText;
+        TextureRegion textureRegion = bake().getTextureRegion();
+        for (Sprite element : elements) {
+            element.setTextureRegion(textureRegion);
+        }
+        oldBakedText.setCacheAsSprite(false);
+    }
 
+    public int getElementCount() {
+        return elements.length;
     }
 
+    @Override
+    public void dispose() {
+        if (bakedText != null) {
+            bakedText.setCacheAsSprite(false);
+        }
+        super.dispose();
+    }
+
+    private Sprite bake() {
+        bakedString = sourceText.getText();
+        bakedText = sourceText.cloneBitmapText();
+        bakedText.setCacheAsSprite(true);
+        return bakedText.cachedSprite();
+    }
+
+    /**
+     * Black eight-way glow around {@code o}. For a {@link BitmapText} source the text is baked
+     * once here: change it through {@link #setText(String)}, or call {@link #refresh()} after
+     * setting the text on the source directly, otherwise the glow keeps showing the old text.
+     */
     public static Glow8Shadows createDefault(Colored o) {
         return new Glow8Shadows(o, Color.BLACK, 0.80f, 1f, 0, 0);
     }
 
+    /**
+     * Like {@link #createDefault(Colored)} with the four diagonal copies only; text changes need
+     * {@link #setText(String)} or {@link #refresh()} in the same way.
+     */
+    public static Glow8Shadows createDiagonal(Colored o) {
+        return new Glow8Shadows(o, Color.BLACK, 0.80f, 1f, 0, 0, Mode.DIAGONAL);
+    }
+
 }
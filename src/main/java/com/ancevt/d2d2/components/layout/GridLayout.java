@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.layout;
+
+import com.ancevt.d2d2.components.Component;
+import lombok.Getter;
+
+/**
+ * Arranges children row by row into a fixed number of columns. Each column is as wide as its
+ * widest child and each row as tall as its tallest one; children fill their cells.
+ */
+@Getter
+public class GridLayout implements LayoutManager {
+
+    private final int columns;
+    private final float horizontalGap;
+    private final float verticalGap;
+
+    public GridLayout(int columns, float horizontalGap, float verticalGap) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("Columns must be positive: " + columns);
+        }
+        this.columns = columns;
+        this.horizontalGap = horizontalGap;
+        this.verticalGap = verticalGap;
+    }
+
+    public GridLayout(int columns) {
+        this(columns, 0, 0);
+    }
+
+    @Override
+    public Size measure(Component container) {
+        float[] columnWidths = new float[columns];
+        float[] rowHeights = new float[getRowCount(LayoutSupport.getLayoutChildCount(container))];
+        measureCells(container, columnWidths, rowHeights);
+
+        return LayoutSupport.withPadding(container,
+                sum(columnWidths, horizontalGap),
+                sum(rowHeights, verticalGap));
+    }
+
+    @Override
+    public void layout(Component container) {
+        float[] columnWidths = new float[columns];
+        float[] rowHeights = new float[getRowCount(LayoutSupport.getLayoutChildCount(container))];
+        measureCells(container, columnWidths, rowHeights);
+
+        float left = container.getPadding().getLeft();
+        float x = left;
+        float y = container.getPadding().getTop();
+        int index = 0;
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            int column = index % columns;
+            int row = index / columns;
+            if (column == 0 && row > 0) {
+                x = left;
+                y += rowHeights[row - 1] + verticalGap;
+            }
+
+            LayoutSupport.setBounds(child, x, y, columnWidths[column], rowHeights[row]);
+            x += columnWidths[column] + horizontalGap;
+            index++;
+        }
+    }
+
+    private int getRowCount(int childCount) {
+        return (childCount + columns - 1) / columns;
+    }
+
+    private void measureCells(Component container, float[] columnWidths, float[] rowHeights) {
+        int index = 0;
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            int column = index % columns;
+            int row = index / columns;
+            columnWidths[column] = Math.max(columnWidths[column], child.getPreferredWidth());
+            rowHeights[row] = Math.max(rowHeights[row], child.getPreferredHeight());
+            index++;
+        }
+    }
+
+    private static float sum(float[] values, float gap) {
+        float sum = 0;
+        for (float value : values) {
+            sum += value;
+        }
+        return values.length > 0 ? sum + gap * (values.length - 1) : 0;
+    }
+}
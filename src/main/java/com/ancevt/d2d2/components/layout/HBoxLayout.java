@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.layout;
+
+import com.ancevt.d2d2.components.Component;
+import lombok.Getter;
+
+/**
+ * Places children left to right at their preferred widths. With {@code fill} on, children are
+ * stretched to the content height of the container.
+ */
+@Getter
+public class HBoxLayout implements LayoutManager {
+
+    private final float spacing;
+    private final boolean fill;
+
+    public HBoxLayout(float spacing, boolean fill) {
+        this.spacing = spacing;
+        this.fill = fill;
+    }
+
+    public HBoxLayout(float spacing) {
+        this(spacing, true);
+    }
+
+    public HBoxLayout() {
+        this(0);
+    }
+
+    @Override
+    public Size measure(Component container) {
+        float width = 0;
+        float height = 0;
+        int count = 0;
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            width += child.getPreferredWidth();
+            height = Math.max(height, child.getPreferredHeight());
+            count++;
+        }
+        if (count > 0) width += spacing * (count - 1);
+
+        return LayoutSupport.withPadding(container, width, height);
+    }
+
+    @Override
+    public void layout(Component container) {
+        float x = container.getPadding().getLeft();
+        float y = container.getPadding().getTop();
+        float contentHeight = LayoutSupport.getContentHeight(container);
+
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            float width = child.getPreferredWidth();
+            float height = fill ? contentHeight : child.getPreferredHeight();
+            LayoutSupport.setBounds(child, x, y, width, height);
+            x += child.getWidth() + spacing;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.layout;
+
+import com.ancevt.d2d2.components.Component;
+
+/**
+ * Positions and sizes the child components of a container. The container calls
+ * {@link #measure(Component)} only when its cached preferred size is stale and
+ * {@link #layout(Component)} in its layout pass; children that are not visible are skipped.
+ */
+public interface LayoutManager {
+
+    /**
+     * @return preferred size of the container, including its padding
+     */
+    Size measure(Component container);
+
+    void layout(Component container);
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.layout;
+
+import com.ancevt.d2d2.components.Component;
+import com.ancevt.d2d2.scene.Node;
+
+final class LayoutSupport {
+
+    private LayoutSupport() {
+    }
+
+    /**
+     * @return the node as a component if it takes part in layout, otherwise {@code null}
+     */
+    static Component asLayoutChild(Node node) {
+        return node instanceof Component component && component.isVisible() ? component : null;
+    }
+
+    static int getLayoutChildCount(Component container) {
+        int count = 0;
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            if (asLayoutChild(container.getChild(i)) != null) count++;
+        }
+        return count;
+    }
+
+    static float getContentWidth(Component container) {
+        return Math.max(0, container.getWidth() - container.getPadding().getLeft() - container.getPadding().getRight());
+    }
+
+    static float getContentHeight(Component container) {
+        return Math.max(0, container.getHeight() - container.getPadding().getTop() - container.getPadding().getBottom());
+    }
+
+    static Size withPadding(Component container, float width, float height) {
+        return new Size(
+                width + container.getPadding().getLeft() + container.getPadding().getRight(),
+                height + container.getPadding().getTop() + container.getPadding().getBottom()
+        );
+    }
+
+    /**
+     * Moves and resizes the child only where it differs, so an unchanged child is not invalidated.
+     * The size is applied as a layout size and does not change the child's preferred size.
+     */
+    static void setBounds(Component child, float x, float y, float width, float height) {
+        if (child.getWidth() != width || child.getHeight() != height) {
+            child.setLayoutSize(width, height);
+        }
+        if (child.getX() != x || child.getY() != y) {
+            child.setPosition(x, y);
+        }
+    }
+}
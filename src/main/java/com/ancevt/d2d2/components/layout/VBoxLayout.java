@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.layout;
+
+import com.ancevt.d2d2.components.Component;
+import lombok.Getter;
+
+/**
+ * Stacks children top to bottom at their preferred heights. With {@code fill} on, children are
+ * stretched to the content width of the container.
+ */
+@Getter
+public class VBoxLayout implements LayoutManager {
+
+    private final float spacing;
+    private final boolean fill;
+
+    public VBoxLayout(float spacing, boolean fill) {
+        this.spacing = spacing;
+        this.fill = fill;
+    }
+
+    public VBoxLayout(float spacing) {
+        this(spacing, true);
+    }
+
+    public VBoxLayout() {
+        this(0);
+    }
+
+    @Override
+    public Size measure(Component container) {
+        float width = 0;
+        float height = 0;
+        int count = 0;
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            width = Math.max(width, child.getPreferredWidth());
+            height += child.getPreferredHeight();
+            count++;
+        }
+        if (count > 0) height += spacing * (count - 1);
+
+        return LayoutSupport.withPadding(container, width, height);
+    }
+
+    @Override
+    public void layout(Component container) {
+        float x = container.getPadding().getLeft();
+        float y = container.getPadding().getTop();
+        float contentWidth = LayoutSupport.getContentWidth(container);
+
+        for (int i = 0, num = container.getNumChildren(); i < num; i++) {
+            Component child = LayoutSupport.asLayoutChild(container.getChild(i));
+            if (child == null) continue;
+
+            float width = fill ? contentWidth : child.getPreferredWidth();
+            float height = child.getPreferredHeight();
+            LayoutSupport.setBounds(child, x, y, width, height);
+            y += child.getHeight() + spacing;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package com.ancevt.d2d2.components.menu;
 
 import com.ancevt.d2d2.components.Component;
+import com.ancevt.d2d2.components.ThemeToken;
 import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.input.Mouse;
 import com.ancevt.d2d2.scene.Node;
@@ -26,6 +27,7 @@ import com.ancevt.d2d2.scene.shape.RectangleShape;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static com.ancevt.d2d2.D2D2.getStage;
 
@@ -38,6 +40,7 @@ public class Menu extends Component {
 
     private final List<MenuItem> items;
     private final List<MenuItem> displayedItems;
+    private final List<RectangleShape> separators;
 
     private Menu activeChildMenu;
 
@@ -46,6 +49,7 @@ public class Menu extends Component {
     public Menu() {
         items = new ArrayList<>();
         displayedItems = new ArrayList<>();
+        separators = new ArrayList<>();
 
         setSize(DEFAULT_WIDTH, DEFAULT_HEIGHT);
     }
@@ -151,14 +155,18 @@ public class Menu extends Component {
     public void update() {
         displayedItems.forEach(Node::removeFromParent);
         displayedItems.clear();
+        separators.forEach(Node::removeFromParent);
+        separators.clear();
 
         float y = 0;
         for (MenuItem item : items) {
             if (item == null) {
-                RectangleShape separatorBg = new RectangleShape(getWidth(), 6, MENU_BACKGROUND_COLOR);
+                RectangleShape separatorBg = new RectangleShape(getWidth(), 6, resolve(ThemeToken.MENU_BACKGROUND_COLOR));
                 addChild(separatorBg, 0, y);
-                RectangleShape separator = new RectangleShape(getWidth() - 8, 2, MENU_SEPARATOR_COLOR);
+                RectangleShape separator = new RectangleShape(getWidth() - 8, 2, resolve(ThemeToken.MENU_SEPARATOR_COLOR));
                 addChild(separator, 4, y + 2);
+                separators.add(separatorBg);
+                separators.add(separator);
                 y += 6;
             } else {
                 addChild(item, 0, y);
@@ -170,6 +178,13 @@ public class Menu extends Component {
         interactiveArea.setHeight(y);
     }
 
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (!separators.isEmpty() && (isThemeChanged(ThemeToken.MENU_BACKGROUND_COLOR, changed) || isThemeChanged(ThemeToken.MENU_SEPARATOR_COLOR, changed))) {
+            update();
+        }
+    }
+
     @Override
     public void dispose() {
         super.dispose();
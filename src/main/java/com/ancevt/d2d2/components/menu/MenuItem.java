@@ -26,9 +26,12 @@ import com.ancevt.d2d2.event.InputEvent;
 import com.ancevt.d2d2.scene.Color;
 import com.ancevt.d2d2.scene.Sprite;
 import com.ancevt.d2d2.components.SpriteFactory;
+import com.ancevt.d2d2.components.ThemeToken;
 import com.ancevt.d2d2.scene.shape.RectangleShape;
 import com.ancevt.d2d2.scene.text.BitmapText;
 
+import java.util.Set;
+
 public class MenuItem extends Component {
 
     public static final MenuItem SEPARATOR = null;
@@ -45,11 +48,12 @@ public class MenuItem extends Component {
     private Menu childMenu;
     private Runnable action;
     private final Menu parentMenu;
+    private boolean hovered;
 
     public MenuItem(Menu parentMenu) {
         this.parentMenu = parentMenu;
         bg = new RectangleShape();
-        bg.setColor(MENU_BACKGROUND_COLOR);
+        bg.setColor(resolve(ThemeToken.MENU_BACKGROUND_COLOR));
         addChild(bg);
 
         action = STUB_ACTION;
@@ -67,11 +71,20 @@ public class MenuItem extends Component {
     }
 
     private void this_hover(InputEvent.MouseHover event) {
-        bg.setColor(MENU_HOVER_BACKGROUND_COLOR);
+        hovered = true;
+        bg.setColor(resolve(ThemeToken.MENU_HOVER_BACKGROUND_COLOR));
     }
 
     private void this_out(InputEvent.MouseOut event) {
-        bg.setColor(MENU_BACKGROUND_COLOR);
+        hovered = false;
+        bg.setColor(resolve(ThemeToken.MENU_BACKGROUND_COLOR));
+    }
+
+    @Override
+    protected void themeChanged(Set<ThemeToken<?>> changed) {
+        if (isThemeChanged(ThemeToken.MENU_BACKGROUND_COLOR, changed) || isThemeChanged(ThemeToken.MENU_HOVER_BACKGROUND_COLOR, changed)) {
+            bg.setColor(resolve(hovered ? ThemeToken.MENU_HOVER_BACKGROUND_COLOR : ThemeToken.MENU_BACKGROUND_COLOR));
+        }
     }
 
     private void this_resize(CommonEvent.Resize event) {
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.components.headless.AllocationBudget;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class FrameAllocationTest {
+
+    private static final int WARMUP_FRAMES = 2_000;
+    private static final int FRAMES = 10_000;
+
+    private static final long IDLE_FRAME_BUDGET = 256;
+    private static final long SCROLL_FRAME_BUDGET = 4 * 1024;
+
+    private static final int ITEM_COUNT = 10_000;
+
+    @BeforeAll
+    static void setUp() {
+        Headless.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Headless.clear();
+    }
+
+    @Test
+    void idleFrameWithWidgets() {
+        Frame frame = new Frame();
+        frame.setSize(400, 300);
+        frame.addChild(new Button("Button"), 10, 40);
+        frame.addChild(new Checkbox("Checkbox"), 10, 80);
+        TextInput textInput = new TextInput();
+        textInput.setText("text input");
+        frame.addChild(textInput, 10, 120);
+        Headless.getStage().addChild(frame);
+
+        AllocationBudget.assertWithin("Idle frame", IDLE_FRAME_BUDGET, Headless::step, WARMUP_FRAMES, FRAMES);
+    }
+
+    @Test
+    void scrollingVirtualizedScrollPane() {
+        String[] texts = new String[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            texts[i] = "Item " + i;
+        }
+
+        ScrollPane scrollPane = new ScrollPane();
+        scrollPane.setItemModel(new ScrollPane.ItemModel() {
+            @Override
+            public int getItemCount() {
+                return ITEM_COUNT;
+            }
+
+            @Override
+            public Component createRow() {
+                return new Button();
+            }
+
+            @Override
+            public void bindRow(Component row, int index) {
+                ((Button) row).setText(texts[index]);
+            }
+        });
+        Headless.getStage().addChild(scrollPane);
+
+        int[] position = {0};
+        AllocationBudget.assertWithin("Scrolling frame", SCROLL_FRAME_BUDGET, () -> {
+            scrollPane.setScrollPosition(position[0]++ % (ITEM_COUNT - 100));
+            Headless.step();
+        }, WARMUP_FRAMES, FRAMES);
+    }
+}
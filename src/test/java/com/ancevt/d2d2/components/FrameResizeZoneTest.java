@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components;
+
+import com.ancevt.d2d2.components.headless.Headless;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the pointer over the resize edges through the same route as the stage mouse move
+ * listener. The title and content panel cover most of those edges, so the zones must still be
+ * detected while they are under the pointer.
+ */
+class FrameResizeZoneTest {
+
+    private static final float X = 100.0f;
+    private static final float Y = 100.0f;
+    private static final float WIDTH = 200.0f;
+    private static final float HEIGHT = 150.0f;
+
+    private Panel container;
+    private Frame frame;
+
+    @BeforeAll
+    static void setUp() {
+        Headless.init();
+    }
+
+    @BeforeEach
+    void createFrame() {
+        container = new Panel();
+        container.setSize(Headless.WIDTH, Headless.HEIGHT);
+        frame = new Frame();
+        frame.setManualResizable(true);
+        frame.setSize(WIDTH, HEIGHT);
+        container.addChild(frame, X, Y);
+        Headless.getStage().addChild(container);
+        Headless.step();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Headless.clear();
+    }
+
+    @Test
+    void edgesUnderTitleAndContentSwitchZoneAndCursor() {
+        moveTo(X + WIDTH / 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_CENTER, frame.getResizeZone());
+        assertEquals(Cursor.MODE_IDLE, Cursor.getMode());
+
+        moveTo(X + WIDTH / 2, Y + 2);
+        assertEquals(Frame.ZONE_TOP, frame.getResizeZone());
+        assertEquals(Cursor.MODE_RESIZE, Cursor.getMode());
+
+        moveTo(X + 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_LEFT, frame.getResizeZone());
+
+        moveTo(X + WIDTH - 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_RIGHT, frame.getResizeZone());
+
+        moveTo(X + WIDTH - 2, Y + HEIGHT - 2);
+        assertEquals(Frame.ZONE_BOTTOM | Frame.ZONE_RIGHT, frame.getResizeZone());
+
+        moveTo(X + 2, Y + 2);
+        assertEquals(Frame.ZONE_TOP | Frame.ZONE_LEFT, frame.getResizeZone());
+        assertEquals(Cursor.MODE_RESIZE, Cursor.getMode());
+    }
+
+    @Test
+    void leavingFrameResetsZoneAndCursor() {
+        moveTo(X + WIDTH - 2, Y + HEIGHT / 2);
+        assertEquals(Cursor.MODE_RESIZE, Cursor.getMode());
+
+        moveTo(X + WIDTH + 50, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_NONE, frame.getResizeZone());
+        assertEquals(Cursor.MODE_IDLE, Cursor.getMode());
+    }
+
+    @Test
+    void ancestorMoveWhilePointerInsideUsesNewBounds() {
+        moveTo(X + WIDTH / 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_CENTER, frame.getResizeZone());
+
+        container.moveX(WIDTH / 2 - 2);
+        moveTo(X + WIDTH / 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_LEFT, frame.getResizeZone());
+        assertEquals(Cursor.MODE_RESIZE, Cursor.getMode());
+    }
+
+    @Test
+    void nonResizableFrameKeepsIdleCursor() {
+        frame.setManualResizable(false);
+
+        moveTo(X + WIDTH - 2, Y + HEIGHT / 2);
+        assertEquals(Frame.ZONE_NONE, frame.getResizeZone());
+        assertEquals(Cursor.MODE_IDLE, Cursor.getMode());
+    }
+
+    private static void moveTo(float x, float y) {
+        FrameManager.getInstance().pointerMoved(x, y);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.components.headless.Headless;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatTest {
+
+    private static final int LINE_COUNT = 100_000;
+    private static final int MAX_MESSAGES = 2048;
+
+    @BeforeAll
+    static void setUp() {
+        Headless.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Headless.clear();
+    }
+
+    @Test
+    void displayedMessagesStayBoundedWhenAppending() {
+        Chat chat = new Chat(".d2d2-components-test/chat");
+        chat.setMaxMessages(MAX_MESSAGES);
+        chat.setSize(400, 300);
+        Headless.getStage().addChild(chat);
+
+        int rowsOnDisplay = (int) (chat.getHeight() / ChatMessage.DEFAULT_HEIGHT);
+
+        for (int i = 0; i < LINE_COUNT; i++) {
+            chat.println("line " + i);
+
+            if (i % 1000 == 0) {
+                Headless.step();
+                assertTrue(chat.getDisplayedMessageCount() <= rowsOnDisplay,
+                        "displayed " + chat.getDisplayedMessageCount() + " rows, viewport holds " + rowsOnDisplay);
+                assertTrue(chat.getNumChildren() <= rowsOnDisplay + 1,
+                        "chat has " + chat.getNumChildren() + " children");
+            }
+        }
+
+        assertEquals(rowsOnDisplay, chat.getDisplayedMessageCount());
+        assertEquals(MAX_MESSAGES, chat.getLines().size());
+        assertEquals("line " + (LINE_COUNT - 1), chat.getLines().get(MAX_MESSAGES - 1).text());
+    }
+}
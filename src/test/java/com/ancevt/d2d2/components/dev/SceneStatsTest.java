@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.dev;
+
+import com.ancevt.d2d2.components.ButtonEx;
+import com.ancevt.d2d2.components.Panel;
+import com.ancevt.d2d2.components.TextInput;
+import com.ancevt.d2d2.components.headless.Headless;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards the lazily created chrome: an idle screen of buttons and inputs carries only the
+ * button backgrounds, and no hidden sprites.
+ */
+class SceneStatsTest {
+
+    private static final int WIDGET_COUNT = 20;
+    private static final int SPRITES_PER_NINE_SLICE = 9;
+
+    @BeforeAll
+    static void setUp() {
+        Headless.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Headless.clear();
+    }
+
+    @Test
+    void idleScreenHasNoHiddenChrome() {
+        Panel screen = createScreen();
+        Headless.step();
+
+        SceneStats.Counts counts = SceneStats.collect(screen);
+
+        assertEquals(WIDGET_COUNT, counts.nineSliceGroups());
+        assertEquals(WIDGET_COUNT * SPRITES_PER_NINE_SLICE, counts.sprites());
+        assertEquals(counts.sprites(), counts.visibleSprites());
+    }
+
+    @Test
+    void selectionBorderIsCreatedOnFirstSelect() {
+        Panel screen = createScreen();
+        ButtonEx button = (ButtonEx) screen.getChild(screen.getNumChildren() - 2 * WIDGET_COUNT);
+        int before = SceneStats.collect(screen).nineSliceGroups();
+
+        button.setToggleMode(true);
+        button.setSelected(true);
+
+        assertEquals(before + 1, SceneStats.collect(screen).nineSliceGroups());
+    }
+
+    private static Panel createScreen() {
+        Panel screen = new Panel();
+        screen.setSize(Headless.WIDTH, Headless.HEIGHT);
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            ButtonEx button = new ButtonEx();
+            button.setText("Button " + i);
+            screen.addChild(button, 10, 10 + i * 28);
+        }
+        for (int i = 0; i < WIDGET_COUNT; i++) {
+            screen.addChild(new TextInput(), 200, 10 + i * 28);
+        }
+        Headless.getStage().addChild(screen);
+        return screen;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.headless;
+
+import com.ancevt.d2d2.components.dev.AllocationCounter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Per-frame allocation assertions on top of {@link AllocationCounter}. When a budget is exceeded
+ * the measured run is repeated under a JFR recording and the top allocation sites are added to
+ * the failure message.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AllocationBudget {
+
+    private static final int REPORT_SITES = 10;
+
+    public static long assertWithin(String name, long budgetBytes, Runnable frame, int warmup, int frames) {
+        assumeTrue(AllocationCounter.isSupported(), "Thread allocation accounting is not supported");
+
+        long bytes = AllocationCounter.measure(frame, warmup, frames);
+        if (bytes > budgetBytes) {
+            AllocationRecording recording = AllocationRecording.start();
+            for (int i = 0; i < frames; i++) {
+                frame.run();
+            }
+            fail(name + " allocates " + bytes + " bytes per frame, budget is " + budgetBytes + "\n"
+                    + recording.stop(REPORT_SITES));
+        }
+        return bytes;
+    }
+}
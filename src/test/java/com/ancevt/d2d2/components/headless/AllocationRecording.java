@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.headless;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JFR recording of sampled allocations ({@code jdk.ObjectAllocationSample}), used to explain a
+ * blown allocation budget: {@link #stop()} lists the top allocation sites of the given thread
+ * by sampled weight.
+ */
+public final class AllocationRecording {
+
+    private static final String EVENT_NAME = "jdk.ObjectAllocationSample";
+    private static final int STACK_DEPTH = 3;
+
+    private final Recording recording;
+    private final long threadId;
+
+    private AllocationRecording(long threadId) {
+        this.threadId = threadId;
+        recording = new Recording();
+        recording.enable(EVENT_NAME).withStackTrace().with("throttle", "10000/s");
+        recording.start();
+    }
+
+    public static AllocationRecording start() {
+        return new AllocationRecording(Thread.currentThread().getId());
+    }
+
+    /**
+     * Stops the recording and returns up to {@code limit} allocation sites, heaviest first, one
+     * per line.
+     */
+    public String stop(int limit) {
+        recording.stop();
+
+        Map<String, Long> weights = new HashMap<>();
+        try {
+            Path file = Files.createTempFile("d2d2-components-alloc", ".jfr");
+            try {
+                recording.dump(file);
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    if (!EVENT_NAME.equals(event.getEventType().getName())) continue;
+                    if (event.getThread() == null || event.getThread().getJavaThreadId() != threadId) continue;
+
+                    String site = event.getClass("objectClass").getName() + " at " + describe(event.getStackTrace());
+                    weights.merge(site, event.getLong("weight"), Long::sum);
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recording.close();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        weights.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> sb.append(entry.getValue()).append(" bytes: ").append(entry.getKey()).append('\n'));
+        return sb.toString();
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "<no stack trace>";
+
+        StringBuilder sb = new StringBuilder();
+        int depth = Math.min(STACK_DEPTH, stackTrace.getFrames().size());
+        for (int i = 0; i < depth; i++) {
+            RecordedFrame frame = stackTrace.getFrames().get(i);
+            if (i > 0) sb.append(" < ");
+            sb.append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return sb.toString();
+    }
+}
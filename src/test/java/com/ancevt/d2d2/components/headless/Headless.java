@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2025 the original author or authors.
+ * See the notice.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ancevt.d2d2.components.headless;
+
+import com.ancevt.d2d2.D2D2;
+import com.ancevt.d2d2.engine.norender.NoRenderEngine;
+import com.ancevt.d2d2.event.StageEvent;
+import com.ancevt.d2d2.scene.Stage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Runs components without a window or GPU. D2D2 is initialized once per JVM with the no-render
+ * engine and frames are advanced manually with {@link #step()}.
+ * <p>
+ * The test resources shadow the component atlas with a blank image of the same size and the
+ * component fonts with fixed-metric ones: every glyph is 8x16 in the middle fonts and 6x12 in
+ * the small one. Layout and allocation results therefore do not depend on the shipped assets.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Headless {
+
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 600;
+
+    private static Stage stage;
+
+    public static Stage init() {
+        if (stage == null) {
+            stage = D2D2.init(new NoRenderEngine(WIDTH, HEIGHT));
+        }
+        return stage;
+    }
+
+    public static Stage getStage() {
+        return init();
+    }
+
+    /**
+     * Dispatches one frame: a stage tick followed by post-frame, as the render loop does.
+     */
+    public static void step() {
+        stage.dispatchEvent(StageEvent.Tick.create());
+        stage.dispatchEvent(StageEvent.PostFrame.create());
+    }
+
+    public static void step(int frames) {
+        for (int i = 0; i < frames; i++) {
+            step();
+        }
+    }
+
+    /**
+     * Removes everything from the stage so the next test starts from an empty scene.
+     */
+    public static void clear() {
+        while (stage.getNumChildren() > 0) {
+            stage.getChild(0).removeFromParent();
+        }
+        step();
+    }
+}